@@ -0,0 +1,70 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing a UTF-8 frame directly from a {@link ByteBuffer} with decoding it to a String first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ByteBufferParseBenchmark {
+
+    private static final CmdArgOption<Integer> OPT_NUM     = CmdArgOption.builder(int.class)
+        .name("num")
+        .shortName('n')
+        .optional()
+        .build();
+
+    private static final CmdArgOption<String>  OPT_NAME    = CmdArgOption.builder(String.class)
+        .name("name")
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_VERBOSE = CmdArgOption.builder()
+        .name("verbose")
+        .shortName('v')
+        .optional()
+        .build();
+
+    @Param({"heap", "direct"})
+    private String                             buffer;
+
+    private ByteBuffer                         frame;
+    private CompiledCommandLine                parser;
+    private ParseContext                       context;
+
+    @Setup
+    public void setup() {
+        byte[] bytes = "--num 42 -v --name \"control plane\" restart".getBytes(StandardCharsets.UTF_8);
+        frame = "direct".equals(buffer) ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+        frame.put(bytes).flip();
+        parser = new CommandLine().addOptions(OPT_NUM, OPT_NAME, OPT_VERBOSE).withFailOnUnknownToken(false).compile();
+        context = parser.createContext();
+    }
+
+    /**
+     * Decodes the whole frame and parses the String.
+     */
+    @Benchmark
+    public int decodeAndParse() {
+        String line = StandardCharsets.UTF_8.decode(frame.duplicate()).toString();
+        return parser.parse(line, context).getInt(OPT_NUM);
+    }
+
+    /**
+     * Parses the bytes of the frame.
+     */
+    @Benchmark
+    public int parseBytes() {
+        return parser.parse(frame, context).getInt(OPT_NUM);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing a script of command lines using a {@link CommandSession} with only splitting the lines into arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class CommandSessionBenchmark {
+
+    private static final CmdArgOption<Integer> OPT_NUM     = CmdArgOption.builder(int.class)
+        .name("num")
+        .shortName('n')
+        .optional()
+        .build();
+
+    private static final CmdArgOption<String>  OPT_NAME    = CmdArgOption.builder(String.class)
+        .name("name")
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_VERBOSE = CmdArgOption.builder()
+        .name("verbose")
+        .shortName('v')
+        .optional()
+        .build();
+
+    private static final int                   LINES       = 1000;
+
+    private String                             script;
+    private String[]                           lines;
+    private CommandSession                     session;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        lines = new String[LINES];
+        for (int i = 0; i < LINES; i++) {
+            lines[i] = "--num " + i + " -v --name \"user " + i + "\"";
+            sb.append(lines[i]).append('\n');
+        }
+        script = sb.toString();
+        session = new CommandLine().addOptions(OPT_NUM, OPT_NAME, OPT_VERBOSE).compile().createSession();
+    }
+
+    /**
+     * Only splits every line into arguments.
+     */
+    @Benchmark
+    public void tokenize(Blackhole _blackhole) {
+        ShellLineSource source = new ShellLineSource(null, CommandLineException.class);
+        for (String line : lines) {
+            source.reset(line);
+            while (source.hasNext()) {
+                _blackhole.consume(source.nextChars());
+            }
+        }
+    }
+
+    /**
+     * Parses every line of the script and reads one value.
+     */
+    @Benchmark
+    public long session(Blackhole _blackhole) {
+        return session.run(new StringReader(script), (line, result) -> _blackhole.consume(result.getInt(OPT_NUM)));
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of looking up a parsed option depending on the size of its possible values map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class OptionLookupBenchmark {
+
+    @Param({"0", "100", "4000"})
+    private int                  possibleValues;
+
+    private CmdArgOption<String> option;
+    private ParseResult          result;
+
+    @Setup
+    public void setup() {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < possibleValues; i++) {
+            values.put(String.format("R%04d", i), "Region " + i);
+        }
+        values.put("R9999", "Region 9999");
+
+        option = CmdArgOption.builder(String.class)
+            .name("region")
+            .shortName('r')
+            .possibleValue(values)
+            .optional()
+            .build();
+
+        result = new CommandLine().addOption(option).compile().parse(new String[] {"--region", "R9999"});
+    }
+
+    @Benchmark
+    public String getArg() {
+        return result.getArg(option);
+    }
+
+    @Benchmark
+    public boolean hasArg() {
+        return result.hasArg(option);
+    }
+
+    @Benchmark
+    public int hashCodeOfOption() {
+        return option.hashCode();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up option names in the option table with looking up Strings in a map.
+ * <p>
+ * Long names are looked up on the range of the token in the table, but as substring in a {@link LinkedHashMap}
+ * (which is how options are stored in the command line). Combined short options (e.g. {@code -xvfz})
+ * are looked up per character in the table, but as one-character String in a {@link HashMap}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class OptionNameBenchmark {
+
+    private static final String  CLUSTER = "-xvfzabc";
+
+    @Param({"26", "1200"})
+    private int                  options;
+
+    private Tokenizer            tokenizer;
+    private Map<String, Integer> shortMap;
+    private Map<String, Integer> longMap;
+    private String[]             tokens;
+    private final Token          token   = new Token();
+
+    @Setup
+    public void setup() {
+        CmdArgOption<?>[] opts = new CmdArgOption<?>[options];
+        shortMap = new HashMap<>();
+        longMap = new LinkedHashMap<>();
+        for (int i = 0; i < opts.length; i++) {
+            String name = "plugin-option-" + i;
+            CmdArgOption.Builder<Void> builder = CmdArgOption.builder().name(name).optional();
+            if (i < 26) {
+                builder.shortName((char) ('a' + i));
+                shortMap.put(String.valueOf((char) ('a' + i)), i);
+            }
+            opts[i] = builder.build();
+            longMap.put(name, i);
+        }
+        tokenizer = new Tokenizer("--", "-", opts);
+
+        tokens = new String[8];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = "--plugin-option-" + (options - 1 - i * 3);
+        }
+    }
+
+    @Benchmark
+    public int longNameTable() {
+        int sum = 0;
+        for (String t : tokens) {
+            sum += tokenizer.lookup(tokenizer.classify(t, 0, t.length(), token));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int longNameMap() {
+        int sum = 0;
+        for (String t : tokens) {
+            sum += longMap.get(t.substring(2));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int clusterTable() {
+        int sum = 0;
+        for (int i = 1; i < CLUSTER.length(); i++) {
+            sum += tokenizer.lookup(CLUSTER, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int clusterMap() {
+        int sum = 0;
+        for (int i = 1; i < CLUSTER.length(); i++) {
+            sum += shortMap.get(CLUSTER.charAt(i) + "");
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of parsing from many threads at once.
+ * <p>
+ * Run with different thread counts (e.g. {@code -t 1}, {@code -t 8}, {@code -t 32}) to see how the
+ * variants scale with the number of cores.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+@Threads(Threads.MAX)
+public class ParallelParseBenchmark {
+
+    private static final CmdArgOption<Integer> OPT_NUM     = CmdArgOption.builder(int.class)
+        .name("num")
+        .shortName('n')
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_VERBOSE = CmdArgOption.builder()
+        .name("verbose")
+        .shortName('v')
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_QUIET   = CmdArgOption.builder()
+        .name("quiet")
+        .shortName('q')
+        .optional()
+        .build();
+
+    private static final String[]              ARGS        = {"--verbose", "-n", "42", "-q"};
+
+    private CommandLine                        commandLine;
+    private CompiledCommandLine                parser;
+
+    /**
+     * Context owned by a single benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadContext {
+        private ParseContext context;
+
+        @Setup
+        public void setup(ParallelParseBenchmark _benchmark) {
+            context = _benchmark.parser.createContext();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        commandLine = new CommandLine().addOptions(OPT_NUM, OPT_VERBOSE, OPT_QUIET);
+        parser = new CommandLine().addOptions(OPT_NUM, OPT_VERBOSE, OPT_QUIET).compile();
+    }
+
+    /**
+     * Shared mutable command line, every thread has to hold its monitor while parsing and reading the result.
+     */
+    @Benchmark
+    public int sharedCommandLine() {
+        synchronized (commandLine) {
+            return commandLine.parse(ARGS).getInt(OPT_NUM);
+        }
+    }
+
+    /**
+     * Compiled parser creating a new result on every parse.
+     */
+    @Benchmark
+    public int compiled() {
+        return parser.parse(ARGS).getInt(OPT_NUM);
+    }
+
+    /**
+     * Compiled parser using contexts of its pool.
+     */
+    @Benchmark
+    public int pooled() {
+        return parser.parseAndApply(ARGS, r -> r.getInt(OPT_NUM));
+    }
+
+    /**
+     * Compiled parser using one context per thread.
+     */
+    @Benchmark
+    public int threadContext(ThreadContext _state) {
+        return parser.parse(ARGS, _state.context).getInt(OPT_NUM);
+    }
+
+}
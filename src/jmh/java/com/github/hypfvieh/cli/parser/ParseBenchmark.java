@@ -0,0 +1,154 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.AuxCounters.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of parsing argument lists of different length with a compiled command line.
+ * <p>
+ * {@link #classifyOnce(Classifications)} and {@link #classifyTwice(Classifications)} replay the token loop of the parser
+ * with the tokenizer only: once carrying the lookahead over to the next iteration (as the parser does),
+ * once classifying the lookahead again as next current token (as the parser did before).
+ * Values consumed by an option are classified once by both, so the difference shows with {@code flags},
+ * where every token is followed by another option.
+ * Both report the number of classifications as secondary result {@code classifications},
+ * divided by the primary result this is the number of classifications per parse.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ParseBenchmark {
+
+    private static final CmdArgOption<String>  OPT_DEFINE  = CmdArgOption.builder(String.class)
+        .name("define")
+        .shortName('D')
+        .repeatable()
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Integer> OPT_NUM     = CmdArgOption.builder(Integer.class)
+        .name("num")
+        .shortName('n')
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_VERBOSE = CmdArgOption.builder()
+        .name("verbose")
+        .shortName('v')
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_QUIET   = CmdArgOption.builder()
+        .name("quiet")
+        .shortName('q')
+        .counter()
+        .optional()
+        .build();
+
+    @Param({"4", "64", "1024"})
+    private int                 size;
+
+    /** Shape of the argument list: {@code values} are options with values, {@code flags} are options without values. */
+    @Param({"values", "flags"})
+    private String              shape;
+
+    private CompiledCommandLine parser;
+    private Tokenizer           tokenizer;
+    private String[]            args;
+
+    @Setup
+    public void setup() {
+        parser = new CommandLine().addOptions(OPT_DEFINE, OPT_NUM, OPT_VERBOSE, OPT_QUIET).compile();
+        tokenizer = new Tokenizer("--", "-", new CmdArgOption<?>[] {OPT_DEFINE, OPT_NUM, OPT_VERBOSE, OPT_QUIET});
+
+        List<String> list = new ArrayList<>();
+        list.add("--verbose");
+        list.add("-n");
+        list.add("42");
+        while (list.size() < size) {
+            if ("flags".equals(shape)) {
+                list.add("-q");
+            } else {
+                list.add("-D");
+                list.add("key" + list.size() + "=value");
+            }
+        }
+        args = list.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public ParseResult parse() {
+        return parser.parse(args);
+    }
+
+    @Benchmark
+    public int classifyOnce(Classifications _counter) {
+        Token current = new Token();
+        Token next = new Token();
+        int options = 0;
+        boolean lookahead = false;
+        for (int i = 0; i < args.length; i++) {
+            if (!lookahead) {
+                classify(current, i, _counter);
+            }
+            lookahead = false;
+            if (i + 1 < args.length) {
+                classify(next, i + 1, _counter);
+                if (current.isLookingLikeOption() && !next.isLookingLikeOption()) {
+                    i++; // value consumed
+                } else {
+                    Token swap = current;
+                    current = next;
+                    next = swap;
+                    lookahead = true;
+                }
+            }
+            options += current.isLookingLikeOption() ? 1 : 0;
+        }
+        return options;
+    }
+
+    @Benchmark
+    public int classifyTwice(Classifications _counter) {
+        int options = 0;
+        for (int i = 0; i < args.length; i++) {
+            Token current = classify(new Token(), i, _counter);
+            if (i + 1 < args.length) {
+                Token next = classify(new Token(), i + 1, _counter);
+                if (current.isLookingLikeOption() && !next.isLookingLikeOption()) {
+                    i++; // value consumed
+                }
+            }
+            options += current.isLookingLikeOption() ? 1 : 0;
+        }
+        return options;
+    }
+
+    private Token classify(Token _token, int _index, Classifications _counter) {
+        _counter.classifications++;
+        return tokenizer.classify(args[_index], 0, args[_index].length(), _token);
+    }
+
+    /**
+     * Counts the tokens classified by one benchmark iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(Type.OPERATIONS)
+    public static class Classifications {
+        public long classifications;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            classifications = 0;
+        }
+    }
+
+}
@@ -12,6 +12,7 @@ import java.io.PrintWriter;
 import java.lang.System.Logger;
 import java.lang.System.Logger.Level;
 import java.lang.invoke.MethodType;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,7 +22,6 @@ import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 /**
  * Base class of every command line.
@@ -34,23 +34,36 @@ import java.util.stream.Stream;
  */
 public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<?>> {
 
-    private final Logger                      logger             = System.getLogger(getClass().getName());
+    private final Logger                            logger              = System.getLogger(getClass().getName());
 
-    private final ArgumentBundle              argBundle          = new ArgumentBundle();
-    private final AtomicBoolean               parsed             = new AtomicBoolean(false);
+    private final Map<String, CmdArgOption<?>>      options             = new LinkedHashMap<>();
+    private final List<CmdArgOption<?>>             optionsByOrdinal    = new ArrayList<>();
+    private final Map<Class<?>, IValueConverter<?>> converters          = new LinkedHashMap<>();
+    private final Map<Class<?>, Object>             primConverters      = new HashMap<>();
+    private final AtomicBoolean                     parsed              = new AtomicBoolean(false);
 
-    private boolean                           failOnUnknownArg   = true;
-    private boolean                           failOnUnknownToken = true;
-    private boolean                           failOnDupArg       = true;
+    private volatile CompiledCommandLine            compiled            = null;
+    private volatile ParseResult                    parseResult         = null;
 
-    private String                            longOptPrefix      = null;
-    private String                            shortOptPrefix     = null;
-    private Pattern                           longOptPattern     = null;
-    private Pattern                           shortOptPattern    = null;
-    private Class<? extends RuntimeException> exceptionType      = CommandLineException.class;
+    private boolean                                 failOnUnknownArg    = true;
+    private boolean                                 failOnUnknownToken  = true;
+    private boolean                                 failOnDupArg        = true;
+    private boolean                                 lazyConversion      = false;
+    private boolean                                 longOptAbbreviation = false;
+    private boolean                                 ignoreOptionCase    = false;
+    private boolean                                 argFileExpansion    = false;
+    private Charset                                 argFileCharset      = StandardCharsets.UTF_8;
+    private int                                     argFileMaxDepth     = 8;
 
-    private IUsageFormatter                   usageFormatter     = new DefaultUsageFormatter();
-    private IUsageFormatter                   helpFormatter      = new DefaultHelpFormatter();
+    private String                                  longOptPrefix       = null;
+    private String                                  shortOptPrefix      = null;
+    private Pattern                                 longOptPattern      = null;
+    private Pattern                                 shortOptPattern     = null;
+    private Class<? extends RuntimeException>       exceptionType       = CommandLineException.class;
+
+    private IUsageFormatter                         usageFormatter      = new DefaultUsageFormatter();
+    private IUsageFormatter                         helpFormatter       = new DefaultHelpFormatter();
+    private IParseListener                          parseListener       = null;
 
     /**
      * Default constructor with long prefix {@code --} and short prefix {@code -}.
@@ -72,13 +85,14 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * Registers some default converters.
      */
     private void registerDefaultConverters() {
-        registerConverter(boolean.class, t -> t != null && t.trim().toLowerCase().matches("^(?:true|yes|1)$"));
+        registerBooleanConverter(t -> t != null && isTrue(t.trim()));
         registerConverter(byte.class, Byte::parseByte);
         registerConverter(short.class, Short::parseShort);
-        registerConverter(int.class, Integer::parseInt);
-        registerConverter(long.class, Long::parseLong);
+        registerIntConverter(new IntConverter());
+        registerLongConverter(new LongConverter());
         registerConverter(float.class, Float::parseFloat);
-        registerConverter(double.class, new DoubleConverter());
+        registerPrimitiveConverter(float.class, (IDoubleValueConverter) Float::parseFloat);
+        registerDoubleConverter(new DoubleConverter());
         registerConverter(String.class, s -> s);
         registerConverter(LocalDate.class, new LocalDateConverter());
         registerConverter(LocalDateTime.class, new LocalDateTimeConverter());
@@ -87,21 +101,8 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
         registerConverter(Class.class, new ClassNameToInstanceConverter<>());
     }
 
-    /**
-     * Reset the internal state.
-     *
-     * @return this
-     */
-    B reset() {
-        return accessSync(t -> {
-            getArgBundle().getUnknownTokens().clear();
-            Stream.of(getArgBundle().getKnownArgs(),
-                getArgBundle().getUnknownArgs(),
-                getArgBundle().getDupArgs(),
-                getArgBundle().getKnownMultiArgs())
-                .forEach(Map::clear);
-            return t;
-        });
+    private static boolean isTrue(String _str) {
+        return "true".equalsIgnoreCase(_str) || "yes".equalsIgnoreCase(_str) || "1".equals(_str);
     }
 
     /**
@@ -116,7 +117,10 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
     public <T> B registerConverter(Class<T> _type, IValueConverter<T> _converter) {
         Objects.requireNonNull(_type, "Type required");
         Objects.requireNonNull(_converter, "Converter required");
-        argBundle.getConverters().put(_type, _converter);
+        changed();
+        converters.put(_type, _converter);
+        // typed getters have to use this converter as well
+        primConverters.remove(_type);
         if (_type.isPrimitive()) {
             return registerConverter(uncheckedCast((Class<?>) MethodType.methodType(_type).wrap().returnType()),
                 _converter);
@@ -124,6 +128,97 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
         return self();
     }
 
+    /**
+     * Registers a converter to convert an option argument String to {@code int} without boxing.
+     * <p>
+     * The converter is used for options of type {@code int} and {@link Integer}
+     * by {@link CommandLine#getInt(CmdArgOption)} and by {@link CommandLine#getArg(CmdArgOption)}.
+     * </p>
+     *
+     * @param _converter converter instance
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B registerIntConverter(IIntValueConverter _converter) {
+        Objects.requireNonNull(_converter, "Converter required");
+        registerConverter(int.class, _converter::convertInt);
+        return registerPrimitiveConverter(int.class, _converter);
+    }
+
+    /**
+     * Registers a converter to convert an option argument String to {@code long} without boxing.
+     * <p>
+     * The converter is used for options of type {@code long} and {@link Long}
+     * by {@link CommandLine#getLong(CmdArgOption)} and by {@link CommandLine#getArg(CmdArgOption)}.
+     * </p>
+     *
+     * @param _converter converter instance
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B registerLongConverter(ILongValueConverter _converter) {
+        Objects.requireNonNull(_converter, "Converter required");
+        registerConverter(long.class, _converter::convertLong);
+        return registerPrimitiveConverter(long.class, _converter);
+    }
+
+    /**
+     * Registers a converter to convert an option argument String to {@code double} without boxing.
+     * <p>
+     * The converter is used for options of type {@code double} and {@link Double}
+     * by {@link CommandLine#getDouble(CmdArgOption)} and by {@link CommandLine#getArg(CmdArgOption)}.
+     * </p>
+     *
+     * @param _converter converter instance
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B registerDoubleConverter(IDoubleValueConverter _converter) {
+        Objects.requireNonNull(_converter, "Converter required");
+        registerConverter(double.class, _converter::convertDouble);
+        return registerPrimitiveConverter(double.class, _converter);
+    }
+
+    /**
+     * Registers a converter to convert an option argument String to {@code boolean} without boxing.
+     * <p>
+     * The converter is used for options of type {@code boolean} and {@link Boolean}
+     * by {@link CommandLine#getBoolean(CmdArgOption)} and by {@link CommandLine#getArg(CmdArgOption)}.
+     * </p>
+     *
+     * @param _converter converter instance
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B registerBooleanConverter(IBooleanValueConverter _converter) {
+        Objects.requireNonNull(_converter, "Converter required");
+        registerConverter(boolean.class, _converter::convertBoolean);
+        return registerPrimitiveConverter(boolean.class, _converter);
+    }
+
+    /**
+     * Registers a primitive converter for the given primitive type and its wrapper type.
+     *
+     * @param _type primitive type
+     * @param _converter converter instance
+     *
+     * @return this
+     */
+    private B registerPrimitiveConverter(Class<?> _type, Object _converter) {
+        changed();
+        primConverters.put(_type, _converter);
+        primConverters.put(MethodType.methodType(_type).wrap().returnType(), _converter);
+        return self();
+    }
+
     /**
      * Set the parsed state.
      *
@@ -133,6 +228,38 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
         parsed.set(_b);
     }
 
+    /**
+     * Freezes the registered options, converters and settings into an immutable parser.
+     * <p>
+     * The returned parser is thread-safe and creates a new {@link ParseResult} on every parse.<br>
+     * Changes made to this command line afterwards do not affect parsers compiled before.
+     * Calling this method again without changing the command line in between returns the same instance.
+     * </p>
+     *
+     * @return CompiledCommandLine, never null
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public CompiledCommandLine compile() {
+        CompiledCommandLine current = compiled;
+        if (current != null) { // already compiled, no need to lock
+            return current;
+        }
+        return accessSync(t -> {
+            if (compiled == null) {
+                compiled = new CompiledCommandLine(t);
+            }
+            return compiled;
+        });
+    }
+
+    /**
+     * Drops the compiled parser after the configuration was changed.
+     */
+    private void changed() {
+        compiled = null;
+    }
+
     /**
      * Add an option to the supported options.
      *
@@ -146,15 +273,19 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
         requireOption(_option);
         requireUniqueOption(_option, this);
 
+        changed();
+
         Optional.ofNullable(_option.getName())
-            .ifPresent(n -> getArgBundle().getOptions().put(n, _option));
+            .ifPresent(n -> options.put(n, _option));
         Optional.ofNullable(_option.getShortName())
-            .ifPresent(n -> getArgBundle().getOptions().put(n, _option));
+            .ifPresent(n -> options.put(n, _option));
+        // the position in this list is the ordinal used to store parsed values
+        optionsByOrdinal.add(_option);
 
-        if (_option.getDataType() != null && _option.getDataType().isEnum() && !getArgBundle().getConverters().containsKey(_option.getDataType())) {
+        if (_option.getDataType() != null && _option.getDataType().isEnum() && !converters.containsKey(_option.getDataType())) {
             @SuppressWarnings("unchecked")
             Class<Enum<?>> enumType = (Class<Enum<?>>) _option.getDataType();
-            getArgBundle().getConverters().put(_option.getDataType(), new EnumConverter(enumType));
+            converters.put(_option.getDataType(), new EnumConverter(enumType));
         }
 
         getLogger().log(Level.DEBUG, "Added {0} command-line option ''{1}'': {2}",
@@ -234,7 +365,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return unmodifiable Map, never null
      */
     public Map<String, CmdArgOption<?>> getOptions() {
-        return accessSync(t -> Collections.unmodifiableMap(t.getArgBundle().getOptions()));
+        return accessSync(t -> Collections.unmodifiableMap(options));
     }
 
     /**
@@ -244,7 +375,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return option, maybe null
      */
     public CmdArgOption<?> getOption(CharSequence _optionName) {
-        return accessSync(t -> getArgBundle().getOptions().get(Objects.requireNonNull(_optionName, "Option name required")));
+        return accessSync(t -> options.get(Objects.requireNonNull(_optionName, "Option name required")));
     }
 
     /**
@@ -253,7 +384,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return unmodifiable Map, never null
      */
     public Map<CmdArgOption<?>, String> getKnownArgs() {
-        return accessSync(t -> Collections.unmodifiableMap(requireParsed(t).getArgBundle().getKnownArgs()));
+        return requireParsed(self()).getParseResult().getKnownArgs();
     }
 
     /**
@@ -263,7 +394,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return unmodifiable Map, never null
      */
     public Map<String, String> getUnknownArgs() {
-        return accessSync(t -> Collections.unmodifiableMap(requireParsed(t).getArgBundle().getUnknownArgs()));
+        return requireParsed(self()).getParseResult().getUnknownArgs();
     }
 
     /**
@@ -272,7 +403,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return unmodifiable list, never null
      */
     public List<String> getUnknownTokens() {
-        return accessSync(t -> Collections.unmodifiableList(requireParsed(t).getArgBundle().getUnknownTokens()));
+        return requireParsed(self()).getParseResult().getUnknownTokens();
     }
 
     /**
@@ -283,7 +414,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return unmodifiable Map, never null
      */
     public Map<CmdArgOption<?>, String> getDupArgs() {
-        return accessSync(t -> requireParsed(t).getArgBundle().getDupArgs());
+        return requireParsed(self()).getParseResult().getDupArgs();
     }
 
     /**
@@ -374,6 +505,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return this
      */
     public B withFailOnUnknownArg(boolean _failOnUnknownArg) {
+        changed();
         failOnUnknownArg = _failOnUnknownArg;
         return self();
     }
@@ -389,6 +521,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return this
      */
     public B withFailOnUnknownToken(boolean _failOnUnknownToken) {
+        changed();
         failOnUnknownToken = _failOnUnknownToken;
         return self();
     }
@@ -404,10 +537,176 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
      * @return this
      */
     public B withFailOnDupArg(boolean _failOnDupArg) {
+        changed();
         failOnDupArg = _failOnDupArg;
         return self();
     }
 
+    /**
+     * Specifies if values should only be converted when they are read.
+     * <p>
+     * When enabled, parsing only checks the structure of the command line (unknown, duplicate and missing arguments and values).
+     * Values are converted and checked against the possible values on first access (e.g. {@link ParseResult#getArg(CmdArgOption)})
+     * and the converted value is kept for later calls.<br>
+     * Invalid values are reported on access using the configured exception type (see {@link #withExceptionType(Class)}).<br>
+     * Useful when many options with expensive converters are registered but only a few are read.
+     * </p>
+     * <p>
+     * Default: false
+     * </p>
+     *
+     * @param _lazyConversion true to enable
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B withLazyConversion(boolean _lazyConversion) {
+        changed();
+        lazyConversion = _lazyConversion;
+        return self();
+    }
+
+    /**
+     * Specifies if long options may be abbreviated (e.g. {@code --verb} for {@code --verbose}) like GNU getopt allows.
+     * <p>
+     * An abbreviation has to be the beginning of exactly one long option name, a name matching exactly is always preferred.
+     * Parsing fails with a message listing all possible options if an abbreviation matches more than one option.
+     * Short options and combined short options are never abbreviated.
+     * </p>
+     * <p>
+     * Default: false
+     * </p>
+     *
+     * @param _longOptAbbreviation true to enable
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B withLongOptAbbreviation(boolean _longOptAbbreviation) {
+        changed();
+        longOptAbbreviation = _longOptAbbreviation;
+        return self();
+    }
+
+    /**
+     * Specifies if the case of long option names is ignored (e.g. {@code --LogLevel} and {@code --loglevel} are the same option).
+     * <p>
+     * Names are folded to lower case once when the command line is compiled, the characters of every token
+     * are folded while they are compared, so no lower case copy of the arguments is created.
+     * Short options (single character names) remain case-sensitive, so {@code -v} and {@code -V} may still be different options.<br>
+     * Compiling fails if two long option names only differ in case.
+     * </p>
+     * <p>
+     * Default: false
+     * </p>
+     *
+     * @param _ignoreOptionCase true to enable
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B withIgnoreOptionCase(boolean _ignoreOptionCase) {
+        changed();
+        ignoreOptionCase = _ignoreOptionCase;
+        return self();
+    }
+
+    /**
+     * Specifies if arguments starting with {@code @} are replaced by the arguments read from the named file.
+     * <p>
+     * E.g. {@code @build.args} is replaced by all arguments of the file {@code build.args}.
+     * Files are memory-mapped and read one argument at a time, so large files do not have to fit into the heap as Strings.
+     * Arguments in a file are separated by whitespace, may be quoted using single or double quotes
+     * and a {@code #} at the beginning of an argument starts a comment which ends at the end of the line.
+     * Arguments in a file may name other argument files (see {@link #withArgFileMaxDepth(int)}).<br>
+     * An argument starting with {@code @@} is passed on without its first {@code @}.
+     * </p>
+     * <p>
+     * Argument files are only expanded when parsing separate arguments ({@code String[]} or {@code Iterator},
+     * e.g. the arguments of {@code main}). Command lines parsed from a single text, a {@code ByteBuffer},
+     * a {@code Reader} or a {@link CommandSession} often come from untrusted input, which would be able to read
+     * any readable file and see its content in error messages, so {@code @} is not special there.
+     * </p>
+     * <p>
+     * Default: false
+     * </p>
+     *
+     * @param _argFileExpansion true to enable
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B withArgFileExpansion(boolean _argFileExpansion) {
+        changed();
+        argFileExpansion = _argFileExpansion;
+        return self();
+    }
+
+    /**
+     * Defines the charset of argument files.
+     * <p>
+     * Default: UTF-8
+     * </p>
+     *
+     * @param _charset charset
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B withArgFileCharset(Charset _charset) {
+        changed();
+        argFileCharset = Objects.requireNonNull(_charset, "Charset required");
+        return self();
+    }
+
+    /**
+     * Defines how deep argument files may be nested (argument files naming other argument files).
+     * <p>
+     * Default: 8
+     * </p>
+     *
+     * @param _maxDepth maximum number of argument files read at once, 1 to disallow nesting
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B withArgFileMaxDepth(int _maxDepth) {
+        if (_maxDepth < 1) {
+            throw new IllegalArgumentException("Maximum depth must be positive");
+        }
+        changed();
+        argFileMaxDepth = _maxDepth;
+        return self();
+    }
+
+    /**
+     * Registers a listener which is notified about every argument while parsing.
+     * <p>
+     * The listener is called in addition to building the result, in the order the arguments appear on the command line.
+     * Without listener parsing has no additional cost.
+     * </p>
+     * <p>
+     * Default: null
+     * </p>
+     *
+     * @param _listener listener to notify, null to remove the listener
+     *
+     * @return this
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public B withParseListener(IParseListener _listener) {
+        changed();
+        parseListener = _listener;
+        return self();
+    }
+
     /**
      * Defines the prefix for short-option names.
      * <p>
@@ -422,11 +721,9 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
         if (_prefix == null || _prefix.isBlank()) {
             return self();
         }
+        changed();
         shortOptPrefix = _prefix;
-        String qPrx = Pattern.quote(_prefix);
-        // "^" + qPrx + "(?:(?!" + qPrx + "))(.+)"
-
-        shortOptPattern = Pattern.compile("^" + qPrx + "(?:(?!" + qPrx + "))(?:([^=]*)=(.+)|(.+))");
+        shortOptPattern = null;
         return self();
     }
 
@@ -444,11 +741,9 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
         if (_prefix == null || _prefix.isBlank()) {
             return self();
         }
+        changed();
         longOptPrefix = _prefix;
-        String qPrx = Pattern.quote(_prefix);
-        // ^--(?:(?!-))(?:([^=]*)=(.+)|(.+))
-        // "^" + qPrx + "(?:(?!" + Pattern.quote(_prefix.charAt(0) + "") + "))(.+)"
-        longOptPattern = Pattern.compile("^" + qPrx + "(?:(?!" + Pattern.quote(_prefix.charAt(0) + "") + "))(?:([^=]*)=(.+)|(.+))");
+        longOptPattern = null;
         return self();
     }
 
@@ -469,6 +764,7 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
         } catch (NoSuchMethodException | SecurityException _ex) {
             throw new CommandLineException("Exception type requires a single-argument constructor of type String");
         }
+        changed();
         exceptionType = _exceptionType;
         return self();
     }
@@ -492,20 +788,34 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
     }
 
     /**
-     * Returns the current pattern to parse long option names.
+     * Returns a pattern matching long option names using the current prefix.
      *
      * @return Pattern
+     * @deprecated options are no longer parsed using regular expressions, the pattern is created on first call
+     *      after the prefix was changed and not used by the parser
      */
+    @Deprecated(since = "1.1.2", forRemoval = true)
     protected Pattern getLongOptPattern() {
+        if (longOptPattern == null) {
+            String qPrx = Pattern.quote(longOptPrefix);
+            longOptPattern = Pattern.compile("^" + qPrx + "(?:(?!" + Pattern.quote(longOptPrefix.charAt(0) + "") + "))(?:([^=]*)=(.+)|(.+))");
+        }
         return longOptPattern;
     }
 
     /**
-     * Returns the current pattern to parse short option names.
+     * Returns a pattern matching short option names using the current prefix.
      *
      * @return Pattern
+     * @deprecated options are no longer parsed using regular expressions, the pattern is created on first call
+     *      after the prefix was changed and not used by the parser
      */
+    @Deprecated(since = "1.1.2", forRemoval = true)
     protected Pattern getShortOptPattern() {
+        if (shortOptPattern == null) {
+            String qPrx = Pattern.quote(shortOptPrefix);
+            shortOptPattern = Pattern.compile("^" + qPrx + "(?:(?!" + qPrx + "))(?:([^=]*)=(.+)|(.+))");
+        }
         return shortOptPattern;
     }
 
@@ -528,12 +838,60 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
     }
 
     /**
-     * Returns the argument bundle for collecting/managing parsed arguments.
+     * Returns all registered options in order of registration.
+     * The index of an option in this list is its ordinal.
+     *
+     * @return List, never null
+     */
+    List<CmdArgOption<?>> getOptionsByOrdinal() {
+        return optionsByOrdinal;
+    }
+
+    /**
+     * Returns the registered converters.
+     *
+     * @return Map, never null
+     */
+    Map<Class<?>, IValueConverter<?>> getConverters() {
+        return converters;
+    }
+
+    /**
+     * Returns the registered converters to primitive types by data type.
+     *
+     * @return Map, never null
+     */
+    Map<Class<?>, Object> getPrimitiveConverters() {
+        return primConverters;
+    }
+
+    /**
+     * Returns the argument bundle of the last parse.
      *
      * @return ArgumentBundle, never null
+     * @throws RuntimeException (or subclass) when command line was not parsed
      */
     ArgumentBundle getArgBundle() {
-        return argBundle;
+        return requireParsed(self()).getParseResult().getArgBundle();
+    }
+
+    /**
+     * Returns the result of the last parse.
+     *
+     * @return ParseResult, null if not parsed yet
+     */
+    ParseResult getParseResult() {
+        return parseResult;
+    }
+
+    /**
+     * Stores the result of a parse and sets the parsed state.
+     *
+     * @param _parseResult result, never null
+     */
+    void setParseResult(ParseResult _parseResult) {
+        parseResult = Objects.requireNonNull(_parseResult, "ParseResult required");
+        setParsed(true);
     }
 
     /**
@@ -554,6 +912,83 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
         return failOnDupArg;
     }
 
+    /**
+     * Returns true when long options may be abbreviated.
+     *
+     * @return boolean
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean isLongOptAbbreviation() {
+        return longOptAbbreviation;
+    }
+
+    /**
+     * Returns true when the case of long option names is ignored.
+     *
+     * @return boolean
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean isIgnoreOptionCase() {
+        return ignoreOptionCase;
+    }
+
+    /**
+     * Returns true when argument files are expanded.
+     *
+     * @return boolean
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean isArgFileExpansion() {
+        return argFileExpansion;
+    }
+
+    /**
+     * Returns the charset of argument files.
+     *
+     * @return Charset
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public Charset getArgFileCharset() {
+        return argFileCharset;
+    }
+
+    /**
+     * Returns how deep argument files may be nested.
+     *
+     * @return int
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public int getArgFileMaxDepth() {
+        return argFileMaxDepth;
+    }
+
+    /**
+     * Returns the listener notified while parsing.
+     *
+     * @return IParseListener, maybe null
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public IParseListener getParseListener() {
+        return parseListener;
+    }
+
+    /**
+     * Returns true when values are only converted when they are read.
+     *
+     * @return boolean
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean isLazyConversion() {
+        return lazyConversion;
+    }
+
     /**
      * Returns true when command line parsing fails on unknown arguments.
      *
@@ -598,6 +1033,6 @@ public abstract class AbstractBaseCommandLine<B extends AbstractBaseCommandLine<
     protected boolean hasArg(Function<B, CmdArgOption<?>> _argFunction) {
         Objects.requireNonNull(_argFunction, "Function required");
         CmdArgOption<?> cmdOption = _argFunction.apply(requireParsed(self()));
-        return cmdOption != null && (getArgBundle().getKnownArgs().containsKey(cmdOption) || getArgBundle().getKnownMultiArgs().containsKey(cmdOption));
+        return cmdOption != null && getParseResult().hasArg(cmdOption);
     }
 }
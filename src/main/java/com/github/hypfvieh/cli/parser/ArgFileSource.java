@@ -0,0 +1,242 @@
+package com.github.hypfvieh.cli.parser;
+
+import static com.github.hypfvieh.cli.parser.StaticUtils.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Source replacing every {@code @path} argument of another source by the arguments read from that file.
+ * <p>
+ * Files are memory-mapped and decoded in small chunks while they are read,
+ * so only the current argument is ever held as String, regardless of the file size.<br>
+ * Arguments in files may also be {@code @path} arguments, up to the configured nesting depth.
+ * An argument starting with {@code @@} is not expanded, the first {@code @} is removed instead.
+ * </p>
+ * <p>
+ * Rules inside of argument files:
+ * </p>
+ * <ul>
+ * <li>arguments are separated by whitespace (including line breaks)</li>
+ * <li>text in single quotes is taken literally</li>
+ * <li>text in double quotes may contain whitespace, a backslash escapes the following character</li>
+ * <li>outside of quotes a backslash escapes the following character, a backslash before a line break joins the lines</li>
+ * <li>a {@code #} at the beginning of an argument starts a comment which ends at the end of the line</li>
+ * </ul>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+final class ArgFileSource extends ArgumentSource {
+    private final ArgumentSource                    args;
+    private final Charset                           charset;
+    private final int                               maxDepth;
+    private final Class<? extends RuntimeException> exceptionType;
+    private final Deque<FileTokenizer>              files = new ArrayDeque<>();
+
+    private boolean                                 ready;
+    private boolean                                 available;
+    private String                                  pending;
+
+    /**
+     * Creates a new source.
+     *
+     * @param _args source to read arguments from
+     * @param _charset charset of argument files
+     * @param _maxDepth maximum number of argument files read at once (nesting depth)
+     * @param _exceptionType exception thrown if a file cannot be read
+     */
+    ArgFileSource(ArgumentSource _args, Charset _charset, int _maxDepth, Class<? extends RuntimeException> _exceptionType) {
+        args = _args;
+        charset = _charset;
+        maxDepth = _maxDepth;
+        exceptionType = _exceptionType;
+    }
+
+    @Override
+    boolean hasNext() {
+        if (!ready) {
+            advance();
+        }
+        return available;
+    }
+
+    @Override
+    String next() {
+        hasNext();
+        ready = false;
+        String next = pending;
+        pending = null;
+        return next;
+    }
+
+    /**
+     * Reads the next argument which is not an argument file.
+     */
+    private void advance() {
+        available = false;
+        while (!available) {
+            String arg;
+            if (!files.isEmpty()) {
+                arg = files.peek().nextToken();
+                if (arg == null) {
+                    files.pop();
+                    continue;
+                }
+            } else if (args.hasNext()) {
+                arg = args.next();
+            } else {
+                break;
+            }
+
+            if (arg != null && arg.length() > 1 && arg.charAt(0) == '@') {
+                if (arg.charAt(1) != '@') {
+                    if (files.size() >= maxDepth) {
+                        throw createException("Argument file '" + arg.substring(1) + "' exceeds maximum nesting depth of " + maxDepth, exceptionType);
+                    }
+                    files.push(new FileTokenizer(Paths.get(arg.substring(1))));
+                    continue;
+                }
+                arg = arg.substring(1);
+            }
+            pending = arg;
+            available = true;
+        }
+        ready = true;
+    }
+
+    @Override
+    public String toString() {
+        return args.toString();
+    }
+
+    /**
+     * Splits the content of a single memory-mapped argument file into arguments.
+     */
+    private final class FileTokenizer {
+        private static final int     CHUNK_SIZE = 8192;
+
+        private final Path           path;
+        private final ByteBuffer     bytes;
+        private final CharsetDecoder decoder;
+        private final CharBuffer     chars = CharBuffer.allocate(CHUNK_SIZE);
+        private final StringBuilder  token = new StringBuilder();
+        private boolean              eof;
+
+        FileTokenizer(Path _path) {
+            path = _path;
+            try (FileChannel channel = FileChannel.open(_path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw createException("Argument file '" + _path + "' is too large", exceptionType);
+                }
+                // mapping stays valid after the channel is closed
+                bytes = channel.map(MapMode.READ_ONLY, 0, size);
+            } catch (IOException _ex) {
+                RuntimeException ex = createException("Cannot read argument file '" + _path + "': " + _ex.getMessage(), exceptionType);
+                ex.initCause(_ex);
+                throw ex;
+            }
+            decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            chars.flip();
+        }
+
+        /**
+         * Reads the next argument of the file.
+         *
+         * @return argument or null if end of file was reached
+         */
+        String nextToken() {
+            int c = read();
+            for (;;) {
+                while (c >= 0 && c <= ' ') {
+                    c = read();
+                }
+                if (c != '#') {
+                    break;
+                }
+                while (c >= 0 && c != '\n' && c != '\r') {
+                    c = read();
+                }
+            }
+            if (c < 0) {
+                return null;
+            }
+
+            token.setLength(0);
+            while (c > ' ') {
+                if (c == '\'') {
+                    for (c = read(); c != '\''; c = read()) {
+                        requireNotEof(c);
+                        token.append((char) c);
+                    }
+                } else if (c == '"') {
+                    for (c = read(); c != '"'; c = read()) {
+                        requireNotEof(c);
+                        if (c == '\\') {
+                            c = read();
+                            requireNotEof(c);
+                        }
+                        token.append((char) c);
+                    }
+                } else if (c == '\\') {
+                    c = read();
+                    if (c == '\r' || c == '\n') { // line continuation
+                        int n = read();
+                        c = c == '\r' && n == '\n' ? read() : n;
+                        continue;
+                    } else if (c >= 0) {
+                        token.append((char) c);
+                    }
+                } else {
+                    token.append((char) c);
+                }
+                c = read();
+            }
+            return token.toString();
+        }
+
+        private void requireNotEof(int _c) {
+            if (_c < 0) {
+                throw createException("Unterminated quote in argument file '" + path + "'", exceptionType);
+            }
+        }
+
+        private int read() {
+            if (!chars.hasRemaining() && !fill()) {
+                return -1;
+            }
+            return chars.get();
+        }
+
+        /**
+         * Decodes the next chunk of the file.
+         *
+         * @return true if at least one character was decoded
+         */
+        private boolean fill() {
+            chars.clear();
+            while (chars.position() == 0 && !eof) {
+                decoder.decode(bytes, chars, true);
+                if (!bytes.hasRemaining() && decoder.flush(chars).isUnderflow()) {
+                    eof = true;
+                }
+            }
+            chars.flip();
+            return chars.hasRemaining();
+        }
+    }
+
+}
@@ -1,73 +1,354 @@
 package com.github.hypfvieh.cli.parser;
 
-import com.github.hypfvieh.cli.parser.converter.IValueConverter;
+import static com.github.hypfvieh.cli.parser.StaticUtils.*;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
- * Bundles different argument-specific information.
+ * Bundles the arguments collected while parsing a single command line.
+ * <p>
+ * Known options are stored in arrays indexed by the ordinal of the option (its position in registration order),
+ * so looking up an option never has to hash or compare the option itself.<br>
+ * Presence, duplicate and missing value state is kept in bitsets (one bit per ordinal),
+ * which allows checking all options at once using a few word-wide operations.
+ * </p>
+ * <p>
+ * Every collected argument is also reported to the {@link IParseListener} of the bundle (if any).
+ * A bundle which does not record only tracks presence of options (to detect duplicates) and reports everything else to the listener.
+ * </p>
  *
  * @author David M.
  * @author Markus S.
  * @since 1.0.0 - 2022-05-05
  */
 public final class ArgumentBundle {
-    private final Map<CmdArgOption<?>, String>       knownArgs      = new LinkedHashMap<>();
-    private final Map<CmdArgOption<?>, List<String>> knownMultiArgs = new LinkedHashMap<>();
-    private final Map<String, String>                unknownArgs    = new LinkedHashMap<>();
-    private final List<String>                       unknownTokens  = new ArrayList<>();
-    private final Map<CmdArgOption<?>, String>       dupArgs        = new LinkedHashMap<>();
-    private final List<CmdArgOption<?>>              missingArgs    = new ArrayList<>();
-    private final Map<String, CmdArgOption<?>>       options        = new LinkedHashMap<>();
-    private final Map<Class<?>, IValueConverter<?>>  converters     = new LinkedHashMap<>();
+    private final CmdArgOption<?>[]   options;
+    private final IParseListener      listener;
+    private final boolean             record;
 
-    Map<CmdArgOption<?>, String> getKnownArgs() {
-        return knownArgs;
+    private final String[]            knownArgs;
+    private final List<String>[]      knownMultiArgs;
+    private List<String>[]            spareMultiArgs;
+    private final long[]              known;
+    private final int[]               knownOrder;
+    private int                       knownCount;
+    private int[]                     counts;
+
+    private final String[]            dupArgs;
+    private final long[]              dup;
+    private final int[]               dupOrder;
+    private int                       dupCount;
+
+    private final long[]              missingArgs;
+
+    private Map<String, String>       unknownArgs;
+    private List<String>              unknownTokens;
+    private final Consumer<String>    tokenConsumer;
+
+    /**
+     * Creates a new bundle which records all arguments.
+     *
+     * @param _options all options indexed by their ordinal
+     */
+    ArgumentBundle(CmdArgOption<?>[] _options) {
+        this(_options, null, true, null);
     }
 
-    Map<CmdArgOption<?>, List<String>> getKnownMultiArgs() {
-        return knownMultiArgs;
+    /**
+     * Creates a new bundle.
+     *
+     * @param _options all options indexed by their ordinal
+     * @param _listener listener to notify, maybe null
+     * @param _record true to store the arguments, false to only notify the listener
+     * @param _tokenConsumer consumer receiving unknown tokens instead of storing them, maybe null
+     */
+    @SuppressWarnings("unchecked")
+    ArgumentBundle(CmdArgOption<?>[] _options, IParseListener _listener, boolean _record, Consumer<String> _tokenConsumer) {
+        options = _options;
+        listener = _listener;
+        record = _record;
+        tokenConsumer = _tokenConsumer;
+        int len = _options.length;
+        knownArgs = new String[len];
+        knownMultiArgs = (List<String>[]) new List<?>[len];
+        known = createBitSet(len);
+        knownOrder = new int[len];
+        dupArgs = new String[len];
+        dup = createBitSet(len);
+        dupOrder = new int[len];
+        missingArgs = createBitSet(len);
     }
 
-    Map<String, String> getUnknownArgs() {
-        return unknownArgs;
+    /**
+     * True if the option with the given ordinal was found at least once.
+     *
+     * @param _ordinal ordinal of option
+     * @return boolean
+     */
+    boolean isKnown(int _ordinal) {
+        return isBitSet(known, _ordinal);
     }
 
-    List<String> getUnknownTokens() {
-        return unknownTokens;
+    /**
+     * True if at least one option of the given bitset was not found.
+     *
+     * @param _mask bitset of ordinals to check
+     * @return boolean
+     */
+    boolean isAnyUnknown(long[] _mask) {
+        for (int i = 0; i < _mask.length; i++) {
+            if ((_mask[i] & known[i]) != _mask[i]) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    Map<CmdArgOption<?>, String> getDupArgs() {
-        return dupArgs;
+    /**
+     * Returns the number of different options found.
+     *
+     * @return int
+     */
+    int getKnownCount() {
+        return knownCount;
     }
 
-    List<CmdArgOption<?>> getMissingArgs() {
-        return missingArgs;
+    /**
+     * Returns the ordinal of the option found at the given position (in order of first occurrence).
+     *
+     * @param _idx position, 0 to {@link #getKnownCount()} (exclusive)
+     * @return ordinal
+     */
+    int getKnownOrdinal(int _idx) {
+        return knownOrder[_idx];
     }
 
-    Map<String, CmdArgOption<?>> getOptions() {
-        return options;
+    /**
+     * Returns the value of a non-repeatable option.
+     *
+     * @param _ordinal ordinal of option
+     * @return value, maybe null
+     */
+    String getKnownArg(int _ordinal) {
+        return knownArgs[_ordinal];
     }
 
     /**
-     * Looks up an option by name name or short name of the specified option object.
+     * Returns all values of a repeatable option.
      *
-     * @param _option option to lookup, may not be null
-     * @return option if found, null otherwise
+     * @param _ordinal ordinal of option
+     * @return List, null if option was not found or is not repeatable
+     */
+    List<String> getKnownMultiArgs(int _ordinal) {
+        return knownMultiArgs[_ordinal];
+    }
+
+    /**
+     * Returns the number of occurrences of a counter option.
+     *
+     * @param _ordinal ordinal of option
+     * @return count, 0 if option was not found
+     */
+    int getCount(int _ordinal) {
+        return counts == null ? 0 : counts[_ordinal];
+    }
+
+    void incrementCount(int _ordinal) {
+        markKnown(_ordinal);
+        if (listener != null) {
+            listener.onOption(options[_ordinal]);
+        }
+        if (!record) {
+            return;
+        }
+        if (counts == null) {
+            counts = new int[options.length];
+        }
+        counts[_ordinal]++;
+    }
+
+    void putKnownArg(int _ordinal, String _value) {
+        markKnown(_ordinal);
+        notifyOption(_ordinal, _value);
+        if (record) {
+            knownArgs[_ordinal] = _value;
+        }
+    }
+
+    void addKnownMultiArg(int _ordinal, String _value) {
+        markKnown(_ordinal);
+        notifyOption(_ordinal, _value);
+        if (!record) {
+            return;
+        }
+        if (knownMultiArgs[_ordinal] == null) {
+            List<String> spare = spareMultiArgs == null ? null : spareMultiArgs[_ordinal];
+            knownMultiArgs[_ordinal] = spare == null ? new ArrayList<>() : spare;
+        }
+        knownMultiArgs[_ordinal].add(_value);
+    }
+
+    void putDupArg(int _ordinal, String _value) {
+        if (listener != null) {
+            listener.onDuplicate(options[_ordinal], _value);
+        }
+        if (!record) {
+            return;
+        }
+        if (!isBitSet(dup, _ordinal)) {
+            setBit(dup, _ordinal);
+            dupOrder[dupCount++] = _ordinal;
+        }
+        dupArgs[_ordinal] = _value;
+    }
+
+    void addMissingArg(int _ordinal) {
+        if (listener != null) {
+            listener.onMissingValue(options[_ordinal]);
+        }
+        setBit(missingArgs, _ordinal);
+    }
+
+    void addUnknownArg(String _name, String _value) {
+        if (listener != null) {
+            listener.onUnknownArg(_name, _value);
+        }
+        if (record) {
+            if (unknownArgs == null) {
+                unknownArgs = new LinkedHashMap<>();
+            }
+            unknownArgs.put(_name, _value);
+        }
+    }
+
+    void addUnknownToken(String _token) {
+        if (listener != null) {
+            listener.onUnknownToken(_token);
+        }
+        if (tokenConsumer != null) {
+            tokenConsumer.accept(_token);
+        } else if (record) {
+            if (unknownTokens == null) {
+                unknownTokens = new ArrayList<>();
+            }
+            unknownTokens.add(_token);
+        }
+    }
+
+    /**
+     * Called after all arguments were added.
      */
-    CmdArgOption<?> getOption(CmdArgOption<?> _option) {
-        StaticUtils.requireOption(_option);
+    void end() {
+        if (listener != null) {
+            listener.onEnd();
+        }
+    }
+
+    /**
+     * Removes all collected arguments so the bundle can be reused for another parse.<br>
+     * Lists of repeatable options are emptied and kept for reuse.
+     */
+    @SuppressWarnings("unchecked")
+    void clear() {
+        for (int i = 0; i < knownCount; i++) {
+            int ordinal = knownOrder[i];
+            knownArgs[ordinal] = null;
+            List<String> multiArgs = knownMultiArgs[ordinal];
+            if (multiArgs != null) {
+                multiArgs.clear();
+                if (spareMultiArgs == null) {
+                    spareMultiArgs = (List<String>[]) new List<?>[options.length];
+                }
+                spareMultiArgs[ordinal] = multiArgs;
+                knownMultiArgs[ordinal] = null;
+            }
+        }
+        for (int i = 0; i < dupCount; i++) {
+            dupArgs[dupOrder[i]] = null;
+        }
+        knownCount = 0;
+        dupCount = 0;
+        Arrays.fill(known, 0L);
+        Arrays.fill(dup, 0L);
+        Arrays.fill(missingArgs, 0L);
+        if (counts != null) {
+            Arrays.fill(counts, 0);
+        }
+        if (unknownArgs != null) {
+            unknownArgs.clear();
+        }
+        if (unknownTokens != null) {
+            unknownTokens.clear();
+        }
+    }
 
-        CmdArgOption<?> option = Optional.ofNullable(_option.getName()).map(options::get).orElse(null);
-        if (option == null) {
-            option = Optional.ofNullable(_option.getShortName()).map(options::get).orElse(null);
+    private void notifyOption(int _ordinal, String _value) {
+        if (listener != null) {
+            listener.onOption(options[_ordinal]);
+            if (options[_ordinal].hasValue()) {
+                listener.onValue(options[_ordinal], _value);
+            }
+        }
+    }
+
+    private void markKnown(int _ordinal) {
+        if (!isBitSet(known, _ordinal)) {
+            setBit(known, _ordinal);
+            knownOrder[knownCount++] = _ordinal;
+        }
+    }
+
+    Map<CmdArgOption<?>, String> getKnownArgs() {
+        Map<CmdArgOption<?>, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < knownCount; i++) {
+            int ordinal = knownOrder[i];
+            if (knownMultiArgs[ordinal] == null) {
+                result.put(options[ordinal], knownArgs[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    Map<CmdArgOption<?>, List<String>> getKnownMultiArgs() {
+        Map<CmdArgOption<?>, List<String>> result = new LinkedHashMap<>();
+        for (int i = 0; i < knownCount; i++) {
+            int ordinal = knownOrder[i];
+            if (knownMultiArgs[ordinal] != null) {
+                result.put(options[ordinal], knownMultiArgs[ordinal]);
+            }
         }
+        return result;
+    }
+
+    Map<String, String> getUnknownArgs() {
+        return unknownArgs == null ? Collections.emptyMap() : unknownArgs;
+    }
+
+    List<String> getUnknownTokens() {
+        return unknownTokens == null ? Collections.emptyList() : unknownTokens;
+    }
 
-        return option;
+    boolean hasDupArgs() {
+        return dupCount > 0;
     }
 
-    Map<Class<?>, IValueConverter<?>> getConverters() {
-        return converters;
+    Map<CmdArgOption<?>, String> getDupArgs() {
+        Map<CmdArgOption<?>, String> result = new LinkedHashMap<>();
+        for (int i = 0; i < dupCount; i++) {
+            result.put(options[dupOrder[i]], dupArgs[dupOrder[i]]);
+        }
+        return result;
+    }
+
+    List<CmdArgOption<?>> getMissingArgs() {
+        List<CmdArgOption<?>> result = new ArrayList<>();
+        for (int i = 0; i < options.length; i++) {
+            if (isBitSet(missingArgs, i)) {
+                result.add(options[i]);
+            }
+        }
+        return result;
     }
 
 }
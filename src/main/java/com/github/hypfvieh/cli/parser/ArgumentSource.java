@@ -0,0 +1,174 @@
+package com.github.hypfvieh.cli.parser;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Supplies the arguments to the parse loop one at a time.
+ * <p>
+ * The parser only looks one argument ahead, so a source never has to hold more than the current argument.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+abstract class ArgumentSource {
+    private int start;
+    private int end;
+
+    /**
+     * True if there is at least one more argument.
+     *
+     * @return boolean
+     */
+    abstract boolean hasNext();
+
+    /**
+     * Returns the next argument. Must only be called if {@link #hasNext()} returned true.
+     *
+     * @return argument, maybe null
+     */
+    abstract String next();
+
+    /**
+     * Moves to the next argument and returns the characters containing it.
+     * The argument is the range from {@link #getStart()} to {@link #getEnd()} of the returned characters,
+     * so sources splitting a larger text do not have to copy every argument.
+     * Must only be called if {@link #hasNext()} returned true.
+     *
+     * @return characters containing the argument, maybe null
+     */
+    CharSequence nextChars() {
+        String next = next();
+        setRange(0, next == null ? 0 : next.length());
+        return next;
+    }
+
+    /**
+     * True if arguments naming an argument file (e.g. {@code @build.args}) may be expanded.
+     * Only sources of separate arguments (e.g. the arguments of {@code main}) allow this,
+     * command lines split from a text or read line by line often come from untrusted input
+     * and must not be able to read arbitrary files.
+     *
+     * @return boolean
+     */
+    boolean isArgFileAllowed() {
+        return false;
+    }
+
+    /**
+     * Returns the start of the argument returned by {@link #nextChars()}.
+     *
+     * @return index (inclusive)
+     */
+    int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end of the argument returned by {@link #nextChars()}.
+     *
+     * @return index (exclusive)
+     */
+    int getEnd() {
+        return end;
+    }
+
+    void setRange(int _start, int _end) {
+        start = _start;
+        end = _end;
+    }
+
+    /**
+     * Source reading the elements of an array.
+     * Can be reused for another array, so parsing with a {@link ParseContext} does not need a new source.
+     */
+    static final class ArraySource extends ArgumentSource {
+        private String[] args;
+        private int      idx;
+
+        ArraySource() {
+            this(null);
+        }
+
+        ArraySource(String[] _args) {
+            reset(_args);
+        }
+
+        /**
+         * Starts reading the given array.
+         *
+         * @param _args array, null to read nothing
+         * @return this
+         */
+        ArraySource reset(String[] _args) {
+            args = _args;
+            idx = 0;
+            return this;
+        }
+
+        @Override
+        boolean hasNext() {
+            return args != null && idx < args.length;
+        }
+
+        @Override
+        boolean isArgFileAllowed() {
+            return true;
+        }
+
+        @Override
+        String next() {
+            return args[idx++];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(args);
+        }
+    }
+
+    /**
+     * Source reading the elements of an iterator, every element is converted to a String when it is read.
+     */
+    static final class IteratorSource extends ArgumentSource {
+        private final Iterator<? extends CharSequence> iterator;
+        private final boolean                          argFileAllowed;
+
+        IteratorSource(Iterator<? extends CharSequence> _iterator) {
+            this(_iterator, true);
+        }
+
+        /**
+         * Creates a new source.
+         *
+         * @param _iterator iterator supplying the arguments
+         * @param _argFileAllowed false if the arguments are read from an untrusted input (e.g. a reader)
+         */
+        IteratorSource(Iterator<? extends CharSequence> _iterator, boolean _argFileAllowed) {
+            iterator = _iterator;
+            argFileAllowed = _argFileAllowed;
+        }
+
+        @Override
+        boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        boolean isArgFileAllowed() {
+            return argFileAllowed;
+        }
+
+        @Override
+        String next() {
+            CharSequence next = iterator.next();
+            return next == null ? null : next.toString();
+        }
+
+        @Override
+        public String toString() {
+            return "<stream>";
+        }
+    }
+
+}
@@ -39,6 +39,9 @@ public final class CmdArgOption<T> {
     /** Short name of the option. */
     private final Character      shortName;
 
+    /** Short name of the option as String, created once as it is used for every lookup. */
+    private final String         shortNameString;
+
     /** The data type of this option. */
     private final Class<T>       dataType;
 
@@ -51,6 +54,12 @@ public final class CmdArgOption<T> {
     /** Whether this option can be repeated multiple times. */
     private final boolean        repeatable;
 
+    /** Whether only the number of occurrences of this option is recorded. */
+    private final boolean        counter;
+
+    /** Delimiter splitting a value into multiple values. */
+    private final Character      delimiter;
+
     /** Default value. */
     private final T              defaultValue;
 
@@ -60,16 +69,41 @@ public final class CmdArgOption<T> {
     /** Map with values allowed for this option. */
     private final Map<T, String> possibleValues;
 
+    /** Hash code computed once as all fields used by equals/hashCode are immutable. */
+    private final int            hash;
+
     private CmdArgOption(CmdArgOption.Builder<T> _builder) {
         name = _builder.name;
         shortName = _builder.shortName;
+        shortNameString = shortName == null ? null : String.valueOf(shortName);
         dataType = _builder.dataType;
         required = _builder.required;
         hasValue = _builder.hasValue();
         defaultValue = _builder.defaultValue;
         description = _builder.description;
-        repeatable = _builder.repeatable;
-        possibleValues = _builder.possibleValues == null ? Map.of() : _builder.possibleValues;
+        repeatable = _builder.repeatable || _builder.counter;
+        counter = _builder.counter;
+        delimiter = _builder.delimiter;
+        possibleValues = copyPossibleValues(_builder.possibleValues);
+        hash = Objects.hash(name, shortName, dataType, required, hasValue, repeatable, counter, delimiter, defaultValue, possibleValues);
+    }
+
+    /**
+     * Creates an unmodifiable copy of the given possible values.
+     * Sorted maps are copied with their comparator to keep e.g. case-insensitive lookups working.
+     *
+     * @param <T> type of values
+     * @param _possibleValues possible values, maybe null
+     *
+     * @return unmodifiable Map, never null
+     */
+    private static <T> Map<T, String> copyPossibleValues(Map<T, String> _possibleValues) {
+        if (_possibleValues == null || _possibleValues.isEmpty()) {
+            return Map.of();
+        } else if (_possibleValues instanceof SortedMap) {
+            return Collections.unmodifiableSortedMap(new TreeMap<>((SortedMap<T, String>) _possibleValues));
+        }
+        return Collections.unmodifiableMap(new LinkedHashMap<>(_possibleValues));
     }
 
     /**
@@ -87,7 +121,7 @@ public final class CmdArgOption<T> {
      * @return String, maybe empty or null
      */
     public String getShortName() {
-        return shortName == null ? null : String.valueOf(shortName);
+        return shortNameString;
     }
 
     /**
@@ -117,6 +151,29 @@ public final class CmdArgOption<T> {
         return repeatable;
     }
 
+    /**
+     * Flag to signal that only the number of occurrences of this option is recorded (e.g. -vvv).
+     * Counter options are always repeatable and never have a value.
+     *
+     * @return true if counter
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean isCounter() {
+        return counter;
+    }
+
+    /**
+     * Returns the delimiter used to split a value into a list of values (e.g. ',' for 8080,8081).
+     *
+     * @return delimiter, null if values are not split
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public Character getDelimiter() {
+        return delimiter;
+    }
+
     /**
      * Flag to signal that this option is optional.
      *
@@ -150,7 +207,7 @@ public final class CmdArgOption<T> {
      * @return Map, maybe empty never null
      */
     public Map<T, String> getPossibleValues() {
-        return Collections.unmodifiableMap(possibleValues);
+        return possibleValues; // already unmodifiable
     }
 
     /**
@@ -164,7 +221,7 @@ public final class CmdArgOption<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, shortName, dataType, required, hasValue, repeatable, defaultValue, possibleValues);
+        return hash;
     }
 
     @Override
@@ -175,12 +232,15 @@ public final class CmdArgOption<T> {
             return false;
         }
         CmdArgOption<?> other = (CmdArgOption<?>) _obj;
-        return Objects.equals(name, other.name)
+        return hash == other.hash
+            && Objects.equals(name, other.name)
             && Objects.equals(shortName, other.shortName)
             && dataType == other.dataType
             && required == other.required
             && hasValue == other.hasValue
             && repeatable == other.repeatable
+            && counter == other.counter
+            && Objects.equals(delimiter, other.delimiter)
             && Objects.equals(possibleValues, other.possibleValues)
             && Objects.equals(defaultValue, other.defaultValue);
     }
@@ -241,6 +301,8 @@ public final class CmdArgOption<T> {
         private Character      shortName;
         private boolean        required;
         private boolean        repeatable;
+        private boolean        counter;
+        private Character      delimiter;
         private T              defaultValue;
         private String         description;
         private Map<T, String> possibleValues;
@@ -331,6 +393,36 @@ public final class CmdArgOption<T> {
             return repeatable(true);
         }
 
+        /**
+         * Sets option to be a counter.<br>
+         * A counter option is repeatable and only records the number of occurrences (e.g. -vvv),
+         * use {@link ParseResult#getCount(CmdArgOption)} to read it.<br>
+         * Counter options cannot have a value.
+         *
+         * @return this
+         *
+         * @since 1.1.2 - 2026-10-17
+         */
+        public CmdArgOption.Builder<T> counter() {
+            return apply(() -> counter = true);
+        }
+
+        /**
+         * Sets the delimiter used to split every value of this option into a list of values (e.g. --ports 8080,8081).<br>
+         * Leading and trailing whitespace of each element is ignored, empty elements are skipped.<br>
+         * Use {@link ParseResult#getArgs(CmdArgOption)} or the primitive array getters
+         * (e.g. {@link ParseResult#getIntArray(CmdArgOption)}) to read all values.
+         *
+         * @param _delimiter delimiter, null to not split values
+         *
+         * @return this
+         *
+         * @since 1.1.2 - 2026-10-17
+         */
+        public CmdArgOption.Builder<T> delimiter(Character _delimiter) {
+            return apply(() -> delimiter = _delimiter);
+        }
+
         /**
          * Sets the option's default value.
          *
@@ -388,6 +480,8 @@ public final class CmdArgOption<T> {
          */
         public CmdArgOption<T> build() {
             throwIf((name == null || name.isBlank()) && (shortName == null || shortName == ' '), "Option requires a name or shortname");
+            throwIf(counter && hasValue(), "Counter option cannot have a value");
+            throwIf(delimiter != null && !hasValue(), "Option without value cannot have a delimiter");
             throwIf(possibleValues != null && !possibleValues.isEmpty() && defaultValue != null && !possibleValues.containsKey(defaultValue),
                 "Option default value '" + defaultValue + "' must be in possible value map");
             return new CmdArgOption<>(this);
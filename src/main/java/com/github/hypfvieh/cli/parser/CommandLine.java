@@ -2,13 +2,7 @@ package com.github.hypfvieh.cli.parser;
 
 import static com.github.hypfvieh.cli.parser.StaticUtils.*;
 
-import com.github.hypfvieh.cli.parser.converter.IValueConverter;
-
-import java.lang.System.Logger.Level;
-import java.util.*;
-import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * A class to parse the Java command-line and access arguments by name and type using {@link CmdArgOption}s.
@@ -31,6 +25,9 @@ import java.util.stream.Collectors;
  *     .parse();
  * </pre>
  *
+ * For parsing many command lines with the same options (possibly from many threads at once),
+ * use {@link #compile()} and parse with the returned {@link CompiledCommandLine}.
+ *
  * @author David M.
  * @author Markus S.
  * @since 1.0.0 - 2022-04-29
@@ -46,91 +43,44 @@ public final class CommandLine extends AbstractBaseCommandLine<CommandLine> {
     }
 
     /**
-     * Parses a String as commandline by splitting it using space as delimiter.
-     * Only intended to be used for testing.
+     * Parses a String as commandline after splitting it into arguments like a POSIX shell.
+     * <p>
+     * Arguments are separated by whitespace and may be quoted using single quotes (literal text) or
+     * double quotes, a backslash escapes the following character (see {@link CompiledCommandLine#parse(CharSequence)}).
+     * </p>
+     *
+     * @param _args command line
      *
-     * @param _args String
      * @return this
      */
-    CommandLine parse(String _args) {
-        return parse(_args == null ? null : _args.split(" "));
+    public CommandLine parse(String _args) {
+        CompiledCommandLine parser = compile();
+        return parse(parser, parser.parseArgs(new ShellLineSource(_args, getExceptionType())));
     }
 
     /**
      * Parses the given arguments.
+     * <p>
+     * Uses the parser returned by {@link #compile()} and keeps the result for the accessor methods of this class.
+     * </p>
      *
      * @param _args arguments to read
      *
      * @return this
      */
-    public synchronized CommandLine parse(String[] _args) {
-        getLogger().log(Level.DEBUG, "Parsing command-line: {0}", Arrays.toString(_args));
-
-        reset();
-
-        if (_args != null) {
-            final int argsLen = _args.length;
-
-            for (int i = 0; i < argsLen; i++) {
-                getLogger().log(Level.TRACE, "Token {0}/{1}: {2}", i, argsLen, _args[i]);
-
-                String token = Optional.ofNullable(_args[i]).map(String::trim).orElse("");
-
-                if (token.isEmpty()) {
-                    continue;
-                }
-
-                ParsedArg parsedArg = parseArg(token, true);
-                CmdArgOption<?> cmdOpt = parsedArg.getCmdArgOpt();
-
-                if (argsLen - 1 >= i + 1) {
-                    String val = _args[i + 1];
-                    ParsedArg nextArg = parseArg(val, false);
-
-                    if (nextArg.getCmdArgOpt() == null) { // looks like proper value
-                        if (cmdOpt != null) {
-                            handleCmdOption(cmdOpt, val);
-                            i++;
-                        } else if (parsedArg.isLookingLikeOption()) {
-                            getArgBundle().getUnknownArgs().put(token, val);
-                            i++;
-                        } else {
-                            getArgBundle().getUnknownTokens().add(token);
-                        }
-                    } else { // next token is an option too
-                        if (cmdOpt != null) {
-                            if (cmdOpt.hasValue() && parsedArg.getValue() == null) { // command needs option, but got another option
-                                getArgBundle().getMissingArgs().add(cmdOpt);
-                            } else if (!cmdOpt.isRepeatable()) { // no arguments required for option
-                                handleCmdOption(cmdOpt, parsedArg.getValue());
-                            }
-                        } else {
-                            getArgBundle().getUnknownTokens().add(token);
-                        }
-                    }
-                } else { // no arguments left
-
-                    if (cmdOpt != null) {
-                        if (cmdOpt.hasValue() && parsedArg.getValue() == null) { // option needs value but we already on the last token
-                            getArgBundle().getMissingArgs().add(cmdOpt);
-                        } else if (cmdOpt.hasValue() && parsedArg.getValue() != null) { // options value was given using -o=val
-                            handleCmdOption(cmdOpt, parsedArg.getValue());
-                        } else if (!parsedArg.isMultiArg()) { // not a repeated option)
-                            handleCmdOption(cmdOpt, parsedArg.getValue());
-                        }
-                    } else if (!parsedArg.isLookingLikeOption()) { // we on last token and this does not look like an option
-                        getArgBundle().getUnknownTokens().add(token);
-                    } else if (parsedArg.isLookingLikeOption()) { // we did not find an option but this argument looks like one
-                        getArgBundle().getUnknownArgs().put(token, null);
-                    }
-                }
-            }
-        }
+    public CommandLine parse(String[] _args) {
+        CompiledCommandLine parser = compile();
+        return parse(parser, parser.parseArgs(_args));
+    }
 
-        setParsed(true);
+    private CommandLine parse(CompiledCommandLine _parser, ParseResult _result) {
+        setParseResult(_result);
 
         logResults();
-        validate();
+        String failure = _parser.validate(_result);
+        if (failure != null) {
+            throw createException(failure, getExceptionType());
+        }
 
         return self();
     }
@@ -166,24 +116,8 @@ public final class CommandLine extends AbstractBaseCommandLine<CommandLine> {
      *
      * @return value, maybe <code>null</code>
      */
-    @SuppressWarnings("unchecked")
     public <T> T getArg(CmdArgOption<T> _option, T _default) {
-        requireOption(_option);
-
-        CmdArgOption<?> option = getArgBundle().getOption(_option);
-        if (option == null) {
-            throw optionNotDefined(_option, getExceptionType());
-        }
-        List<T> args = getArgs(_option, _default);
-        if (args == null || args.isEmpty()) {
-            if (_option.isOptional()) {
-                return null;
-            } else {
-                throw createException("Required option " + formatOption(_option, getLongOptPrefix(), getShortOptPrefix()) + " not set", getExceptionType());
-            }
-        }
-        T convertedVal = args.get(0);
-        return _option.getDataType().isPrimitive() ? convertedVal : (T) _option.getDataType().cast(convertedVal);
+        return getResult().getArg(_option, _default);
     }
 
     /**
@@ -217,80 +151,222 @@ public final class CommandLine extends AbstractBaseCommandLine<CommandLine> {
      * @return List, maybe empty or <code>null</code>
      */
     public <T> List<T> getArgs(CmdArgOption<T> _option, T _default) {
-        requireOption(_option);
-        List<String> strVals = new ArrayList<>();
-
-        if (_option.isRepeatable()) {
-            List<String> list = getArgBundle().getKnownMultiArgs().get(_option);
-            if (list != null && !list.isEmpty()) {
-                strVals.addAll(list);
-            }
-        } else {
-            String val = getArgBundle().getKnownArgs().get(_option);
-            if (val != null) {
-                strVals.add(val);
-            }
-        }
+        return getResult().getArgs(_option, _default);
+    }
 
-        if (_option.hasValue()) {
-            return convertValues(_option, _default, strVals);
-        }
+    /**
+     * Returns the value of an integer option (int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the default value of that option is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not an integer option, unknown or was not set and has no default value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public int getInt(CmdArgOption<?> _option) {
+        return getResult().getInt(_option);
+    }
 
-        return null;
+    /**
+     * Returns the value of an integer option (int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the given default is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not an integer option or unknown
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public int getInt(CmdArgOption<?> _option, int _default) {
+        return getResult().getInt(_option, _default);
     }
 
     /**
-     * Converts the value of the given option using configured converters or returns default.
+     * Returns the value of an integer option (long, int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the default value of that option is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
      *
-     * @param <T> type
+     * @param _option option
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not an integer option, unknown or was not set and has no default value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public long getLong(CmdArgOption<?> _option) {
+        return getResult().getLong(_option);
+    }
+
+    /**
+     * Returns the value of an integer option (long, int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the given default is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
      *
      * @param _option option
-     * @param _default default if option not set
-     * @param _strVals string values
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not an integer option or unknown
      *
-     * @return value or null
+     * @since 1.1.2 - 2026-10-17
      */
-    @SuppressWarnings("unchecked")
-    private <T> List<T> convertValues(CmdArgOption<T> _option, T _default, List<String> _strVals) {
-        List<T> resultList = new ArrayList<>();
-        if (_strVals.isEmpty()) {
-            if (_default == null) {
-                var x = (T) _option.getDefaultValue();
-                if (x != null) {
-                    resultList.add(x);
-                }
-            } else {
-                resultList.add(_default);
-            }
-            return resultList;
-        }
+    public long getLong(CmdArgOption<?> _option, long _default) {
+        return getResult().getLong(_option, _default);
+    }
 
-        for (String val : _strVals) {
-            IValueConverter<?> converter = getArgBundle().getConverters().get(_option.getDataType());
-            if (converter == null) { // handle missing converter for option's data type
-                throw createException("No converter for type " + _option.getDataType().getName(), getExceptionType());
-            } else {
-                T convertedVal = (T) converter.convert(val);
-                validatePossibleValues(_option, convertedVal);
-                resultList.add(convertedVal);
-            }
-        }
-        return resultList;
+    /**
+     * Returns the value of a numeric option (double, float, long, int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the default value of that option is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not a numeric option, unknown or was not set and has no default value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public double getDouble(CmdArgOption<?> _option) {
+        return getResult().getDouble(_option);
     }
 
-    private <T> void validatePossibleValues(CmdArgOption<T> _cmdOpt, T _val) {
-        if (_cmdOpt.getPossibleValues().isEmpty()) {
-            return;
-        }
+    /**
+     * Returns the value of a numeric option (double, float, long, int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the given default is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not a numeric option or unknown
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public double getDouble(CmdArgOption<?> _option, double _default) {
+        return getResult().getDouble(_option, _default);
+    }
 
-        if (!_cmdOpt.getPossibleValues().containsKey(_val)) {
-            String possVals = _cmdOpt.getPossibleValues().keySet().stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(", "));
+    /**
+     * Returns all values of an integer option (int, short or byte) as array without boxing.
+     * <p>
+     * All values of a repeatable option and all elements of delimited values are returned in order of occurrence.<br>
+     * If the option was not set, the default value of that option is returned as only element (or an empty array without default value).
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return array, never null
+     *
+     * @throws RuntimeException if option is not an integer option or unknown
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public int[] getIntArray(CmdArgOption<?> _option) {
+        return getResult().getIntArray(_option);
+    }
 
-            throw new InvalidOptionValueException(
-                "Value '" + _val + "' is not valid for option '" + formatOption(_cmdOpt, getLongOptPrefix(), getShortOptPrefix()) + "', possible are: " + possVals);
-        }
+    /**
+     * Returns all values of an integer option (long, int, short or byte) as array without boxing.
+     * <p>
+     * All values of a repeatable option and all elements of delimited values are returned in order of occurrence.<br>
+     * If the option was not set, the default value of that option is returned as only element (or an empty array without default value).
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return array, never null
+     *
+     * @throws RuntimeException if option is not an integer option or unknown
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public long[] getLongArray(CmdArgOption<?> _option) {
+        return getResult().getLongArray(_option);
+    }
+
+    /**
+     * Returns all values of a numeric option (double, float, long, int, short or byte) as array without boxing.
+     * <p>
+     * All values of a repeatable option and all elements of delimited values are returned in order of occurrence.<br>
+     * If the option was not set, the default value of that option is returned as only element (or an empty array without default value).
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return array, never null
+     *
+     * @throws RuntimeException if option is not a numeric option or unknown
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public double[] getDoubleArray(CmdArgOption<?> _option) {
+        return getResult().getDoubleArray(_option);
+    }
+
+    /**
+     * Returns the value of a boolean option without boxing.
+     * <p>
+     * For options without value this returns true if the option was set.<br>
+     * If the option was not set, the default value of that option is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not a boolean option, unknown or was not set and has no default value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean getBoolean(CmdArgOption<?> _option) {
+        return getResult().getBoolean(_option);
+    }
+
+    /**
+     * Returns the value of a boolean option without boxing.
+     * <p>
+     * For options without value this returns true if the option was set.<br>
+     * If the option was not set, the given default is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not a boolean option or unknown
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean getBoolean(CmdArgOption<?> _option, boolean _default) {
+        return getResult().getBoolean(_option, _default);
     }
 
     /**
@@ -491,23 +567,7 @@ public final class CommandLine extends AbstractBaseCommandLine<CommandLine> {
      */
     public boolean hasArg(CmdArgOption<?> _option) {
         requireOption(_option);
-        CommandLine requireParsed = requireParsed(this);
-        if (getArgBundle().getKnownArgs().containsKey(requireParsed.getArgBundle().getOption(_option))) {
-            return true;
-        } else if (getArgBundle().getKnownMultiArgs().containsKey(requireParsed.getArgBundle().getOption(_option))) {
-            return true;
-        }
-
-        CmdArgOption<?> value = requireParsed.getArgBundle().getOption(_option);
-
-        // option is required but was not set
-        if (_option.isRequired() && value == null) {
-            throw optionNotDefined(_option, getExceptionType());
-        } else if (value != null) { // option is present
-            return getArgBundle().getKnownArgs().containsKey(value) || getArgBundle().getKnownMultiArgs().containsKey(value);
-        }
-
-        return false;
+        return requireParsed(this).getParseResult().hasArg(_option);
     }
 
     /**
@@ -524,7 +584,7 @@ public final class CommandLine extends AbstractBaseCommandLine<CommandLine> {
         }
 
         return hasArg(parsedCmd -> {
-            return parsedCmd.getArgBundle().getOptions().values().stream()
+            return parsedCmd.getOptions().values().stream()
                 .filter(o -> _arg.equals(o.getName()))
                 .findFirst()
                 .orElse(null);
@@ -543,7 +603,7 @@ public final class CommandLine extends AbstractBaseCommandLine<CommandLine> {
         return hasArg(parsedCmd -> {
             String argStr = new StringBuilder().append(_arg).toString();
 
-            return parsedCmd.getArgBundle().getOptions().values().stream()
+            return parsedCmd.getOptions().values().stream()
                 .filter(o -> argStr.equals(o.getShortName()))
                 .findFirst()
                 .orElse(null);
@@ -562,160 +622,35 @@ public final class CommandLine extends AbstractBaseCommandLine<CommandLine> {
      */
     public int getArgCount(CmdArgOption<?> _option) {
         requireOption(_option);
-        requireParsed(this);
-
-        if (getArgBundle().getKnownArgs().containsKey(_option)) {
-            return 1;
-        }
-        if (getArgBundle().getKnownMultiArgs().containsKey(_option)) {
-            return getArgBundle().getKnownMultiArgs().get(_option).size();
-        }
-
-        return 0;
+        return requireParsed(this).getParseResult().getArgCount(_option);
     }
 
     /**
-     * Adds the given command option to the appropriate internal map or list.
+     * Returns the number of occurrences of the given counter option (e.g. 3 for -vvv).
+     * <p>
+     * If the option was never set, 0 is returned.
+     * </p>
      *
-     * @param _cmdOpt option
-     * @param _val value
-     */
-    private void handleCmdOption(CmdArgOption<?> _cmdOpt, String _val) {
-        Objects.requireNonNull(_cmdOpt, "Option required");
-        if (_cmdOpt.isRepeatable()) {
-            getArgBundle().getKnownMultiArgs().computeIfAbsent(_cmdOpt, x -> new ArrayList<>()).add(trimToNull(_val));
-        } else if (!getArgBundle().getKnownArgs().containsKey(_cmdOpt)) {
-            getArgBundle().getKnownArgs().put(_cmdOpt, trimToNull(_val));
-        } else {
-            getArgBundle().getDupArgs().put(_cmdOpt, _val);
-        }
-    }
-
-    /**
-     * Reads a token using the long/short name regular expressions.
+     * @param _option counter option
      *
-     * @param _token token to read
-     * @param _handle true to put detected arguments to internal map, false to do nothing
+     * @return number of occurrences
      *
-     * @return ParsedArg - never null
+     * @throws RuntimeException if option is not a counter option or unknown
+     *
+     * @since 1.1.2 - 2026-10-17
      */
-    private ParsedArg parseArg(String _token, boolean _handle) {
-        if (_token == null) {
-            return new ParsedArg(false, false, null);
-        }
-
-        String optionName = null;
-
-        Matcher matcher = getLongOptPattern().matcher(_token);
-        if (matcher.matches()) {
-            optionName = matcher.group(1) == null ? matcher.group(3) : matcher.group(1);
-            ParsedArg parsedArg = new ParsedArg(true, false, getArgBundle().getOptions().get(optionName));
-            parsedArg.setValue(matcher.group(2));
-
-            return parsedArg;
-        } else {
-            matcher = getShortOptPattern().matcher(_token);
-
-            if (matcher.matches()) {
-
-                String value = matcher.group(2);
-                optionName = matcher.group(1) == null ? matcher.group(3) : matcher.group(1);
-
-                if (optionName.length() > 1) {
-                    CmdArgOption<?> cmdArgOption = null;
-                    CmdArgOption<?> prevOption = null;
-                    // iterate all combined short options (e.g. -abcd)
-                    for (char c : optionName.toCharArray()) {
-                        String key = c + "";
-                        cmdArgOption = getArgBundle().getOptions().get(key);
-                        if (cmdArgOption != null) {
-                            if (!cmdArgOption.hasValue() && _handle) {
-                                handleCmdOption(cmdArgOption, null);
-                            } else if (prevOption == null && cmdArgOption.hasValue()) { // no option was value before
-                                prevOption = cmdArgOption;
-                            } else if (prevOption != null && prevOption.hasValue() && cmdArgOption.hasValue()) { // we already have an option which requires a value
-                                throw createException("Option " + formatOption(prevOption, getLongOptPrefix(), getShortOptPrefix()) + " requires a value", getExceptionType());
-                            }
-
-                        } else {
-                            if (_handle) { // got a unknown short option
-                                getArgBundle().getUnknownArgs().put(key, null);
-                            }
-                        }
-                    }
-                    return new ParsedArg(true, true, cmdArgOption, value);
-                } else {
-                    CmdArgOption<?> cmdArgOption = getArgBundle().getOptions().get(optionName);
-                    if (cmdArgOption == null) { // unknown argument used
-                        return new ParsedArg(true, false, null, value);
-                    }
-
-                    return new ParsedArg(true, false, cmdArgOption, value);
-                }
-            }
-        }
-        return new ParsedArg(false, false, null);
+    public int getCount(CmdArgOption<?> _option) {
+        return getResult().getCount(_option);
     }
 
     /**
-     * Validates the parsed command line.
-     *
-     * @return this
+     * Returns the result of the last parse or an empty result if nothing was parsed yet.
      *
-     * @throws CommandLineException if validation fails
+     * @return ParseResult, never null
      */
-    private CommandLine validate() throws CommandLineException {
-        List<String> failures = new ArrayList<>();
-        if (isFailOnUnknownArg() && !getArgBundle().getUnknownArgs().isEmpty()) {
-            failures.add("unknown arguments: " + getArgBundle().getUnknownArgs().entrySet().stream()
-                .map(e -> e.getKey() + "=" + e.getValue())
-                .collect(Collectors.joining(", ")));
-        }
-        if (isFailOnUnknownToken() && !getArgBundle().getUnknownTokens().isEmpty()) {
-            failures.add("unknown tokens: " + String.join(", ", getArgBundle().getUnknownTokens()));
-        }
-        if (isFailOnDupArg() && !getArgBundle().getDupArgs().isEmpty()) {
-            failures.add("duplicate arguments: " + getArgBundle().getDupArgs().keySet().stream().map(x -> formatOption(x, getLongOptPrefix(), getShortOptPrefix())).collect(Collectors.joining(", ")));
-        }
-
-        // check all required options are given
-        List<String> missingOptions = getOptions().values().stream().filter(CmdArgOption::isRequired)
-            .filter(s -> !getArgBundle().getKnownArgs().containsKey(s) // not a known single argument
-                && !getArgBundle().getKnownMultiArgs().containsKey(s)) // not a known repeatable argument
-            .map(CmdArgOption::getName)
-            .distinct()
-            .collect(Collectors.toList());
-        if (!missingOptions.isEmpty()) {
-            failures.add("required options missing: " + String.join(", ", missingOptions));
-        }
-
-        // check values
-        for (Entry<CmdArgOption<?>, String> knownArg : getArgBundle().getKnownArgs().entrySet()) {
-            CmdArgOption<?> option = knownArg.getKey();
-            if (option.hasValue() && knownArg.getValue() == null && option.getDefaultValue() == null) {
-                failures.add("argument '" + formatOption(knownArg.getKey(), getLongOptPrefix(), getShortOptPrefix()) + "' requires a value");
-            } else if (!option.hasValue() && knownArg.getValue() != null) {
-                failures.add("argument '" + formatOption(knownArg.getKey(), getLongOptPrefix(), getShortOptPrefix()) + "' cannot have a value");
-            }
-            // check value type
-            if (option.hasValue() && knownArg.getValue() != null) {
-                try {
-                    getArg(option);
-                } catch (InvalidOptionValueException _ex) {
-                    failures.add(_ex.getMessage());
-                } catch (Exception _ex) {
-                    failures.add(String.format("argument '%s' has invalid value ('%s'): %s",
-                        formatOption(knownArg.getKey(), getLongOptPrefix(), getShortOptPrefix()),
-                        getArgBundle().getKnownArgs().get(knownArg.getKey()),
-                        _ex.getMessage()));
-                }
-            }
-        }
-
-        if (!failures.isEmpty()) {
-            throw createException("Parsing of command-line failed: " + String.join(", ", failures), getExceptionType());
-        }
-        return this;
+    private ParseResult getResult() {
+        ParseResult result = getParseResult();
+        return result == null ? compile().emptyResult() : result;
     }
 
 }
@@ -0,0 +1,204 @@
+package com.github.hypfvieh.cli.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Parses many command lines (e.g. of an interactive console or a script) with the same {@link CompiledCommandLine}.
+ * <p>
+ * Created by {@link CompiledCommandLine#createSession()}.<br>
+ * Every line is split like a POSIX shell does (see {@link CompiledCommandLine#parse(CharSequence)}) and parsed into
+ * the same, reused {@link ParseResult}. Invalid lines are reported as failure message instead of throwing an exception,
+ * so a script with many invalid lines does not pay for creating exceptions.
+ * </p>
+ * <p>
+ * When reading from a {@link Reader}, lines are read into a reused buffer and parsed without creating a String per line.
+ * Blank lines and lines starting with {@code #} are ignored, a backslash at the end of a line continues the command on the next line.
+ * </p>
+ * <p>
+ * A session must only be used by one thread at a time.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public final class CommandSession {
+    private static final int          BUFFER_SIZE = 8192;
+
+    private final CompiledCommandLine parser;
+    private final ParseContext        context;
+
+    private String                    failure;
+    private char[]                    buffer;
+    private CharBuffer                view;
+
+    CommandSession(CompiledCommandLine _parser) {
+        parser = _parser;
+        context = _parser.createContext();
+    }
+
+    /**
+     * Parses and validates a single command line.
+     *
+     * @param _line command line, maybe null
+     *
+     * @return true if the command line is valid, false otherwise (see {@link #getFailure()})
+     */
+    public boolean parseLine(CharSequence _line) {
+        try {
+            failure = parser.parseLine(_line, context);
+        } catch (RuntimeException _ex) {
+            failure = _ex.getMessage();
+        }
+        return failure == null;
+    }
+
+    /**
+     * Reads all commands of the given reader and passes them to the given handler.
+     *
+     * @param _reader reader to read commands from, not closed by this method
+     * @param _handler handler receiving every command
+     *
+     * @return number of invalid commands
+     *
+     * @throws UncheckedIOException if reading fails
+     */
+    public long run(Reader _reader, ICommandHandler _handler) {
+        Objects.requireNonNull(_reader, "Reader required");
+        Objects.requireNonNull(_handler, "Handler required");
+        if (buffer == null) {
+            buffer = new char[BUFFER_SIZE];
+            view = CharBuffer.wrap(buffer);
+        }
+
+        long failures = 0;
+        long lineNumber = 0;
+        long commandLineNumber = 1;
+        int start = 0; // start of current command
+        int scan = 0; // start of current line
+        int len = 0; // number of chars in buffer
+        boolean eof = false;
+        for (;;) {
+            int lineEnd = indexOfLineBreak(scan, len);
+            if (lineEnd < 0) {
+                if (eof) {
+                    if (start < len) {
+                        failures += handleCommand(commandLineNumber, start, len, _handler);
+                    }
+                    break;
+                }
+                if (start > 0) { // move incomplete line to the beginning
+                    System.arraycopy(buffer, start, buffer, 0, len - start);
+                    len -= start;
+                    scan -= start;
+                    start = 0;
+                } else if (len == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    view = CharBuffer.wrap(buffer);
+                }
+                int read = read(_reader, len);
+                if (read < 0) {
+                    eof = true;
+                } else {
+                    len += read;
+                }
+                continue;
+            }
+
+            lineNumber++;
+            scan = lineEnd + 1;
+            if (!isContinued(start, lineEnd)) {
+                failures += handleCommand(commandLineNumber, start, lineEnd, _handler);
+                start = scan;
+                commandLineNumber = lineNumber + 1;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Returns the result of the last command line.
+     * The result is reused for the next command line, after an invalid command line it holds
+     * whatever was parsed of that line before it failed.
+     *
+     * @return ParseResult, never null
+     */
+    public ParseResult getResult() {
+        return context.getResult();
+    }
+
+    /**
+     * Returns the failure of the last command line.
+     *
+     * @return failure message, null if the last command line was valid
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the parser used by this session.
+     *
+     * @return CompiledCommandLine, never null
+     */
+    public CompiledCommandLine getParser() {
+        return parser;
+    }
+
+    /**
+     * Parses the command in the given range of the buffer.
+     *
+     * @return 1 if command was invalid, 0 otherwise
+     */
+    private int handleCommand(long _lineNumber, int _start, int _end, ICommandHandler _handler) {
+        int first = _start;
+        while (first < _end && buffer[first] <= ' ') {
+            first++;
+        }
+        if (first == _end || buffer[first] == '#') { // blank line or comment
+            return 0;
+        }
+
+        view.clear();
+        view.position(_start).limit(_end);
+        if (parseLine(view)) {
+            _handler.onCommand(_lineNumber, context.getResult());
+            return 0;
+        }
+        _handler.onError(_lineNumber, view.toString(), failure);
+        return 1;
+    }
+
+    private int read(Reader _reader, int _offset) {
+        try {
+            return _reader.read(buffer, _offset, buffer.length - _offset);
+        } catch (IOException _ex) {
+            throw new UncheckedIOException(_ex);
+        }
+    }
+
+    private int indexOfLineBreak(int _from, int _to) {
+        for (int i = _from; i < _to; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * True if the line ending at the given line break ends with a backslash escaping the line break.
+     */
+    private boolean isContinued(int _start, int _lineEnd) {
+        int end = _lineEnd > _start && buffer[_lineEnd - 1] == '\r' ? _lineEnd - 1 : _lineEnd;
+        int backslashes = 0;
+        while (end - backslashes > _start && buffer[end - backslashes - 1] == '\\') {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+}
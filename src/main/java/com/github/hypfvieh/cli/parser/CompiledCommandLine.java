@@ -0,0 +1,990 @@
+package com.github.hypfvieh.cli.parser;
+
+import static com.github.hypfvieh.cli.parser.StaticUtils.*;
+
+import com.github.hypfvieh.cli.parser.converter.*;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable parser created by {@link AbstractBaseCommandLine#compile()}.
+ * <p>
+ * Holds a frozen copy of the options, converters and settings of the command line it was compiled from.<br>
+ * Every call to {@link #parse(String[])} returns a new {@link ParseResult}, so any number of threads
+ * may parse with the same instance at once without locking.<br>
+ * {@link #parseAndApply(String[], java.util.function.Function)} does the same using pooled {@link ParseContext}s
+ * to avoid creating garbage when many threads parse at a high rate.<br>
+ * Registered converters are shared between all threads and therefore have to be thread-safe.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public final class CompiledCommandLine {
+
+    private final Logger                            logger;
+
+    private final Map<String, CmdArgOption<?>>      options;
+    private final CmdArgOption<?>[]                 optionsByOrdinal;
+    private final Map<Class<?>, IValueConverter<?>> converters;
+    private final Map<Class<?>, Object>             primitiveConverters;
+    private final long[]                            requiredOptions;
+
+    private final boolean                           failOnUnknownArg;
+    private final boolean                           failOnUnknownToken;
+    private final boolean                           failOnDupArg;
+    private final boolean                           lazyConversion;
+    private final IParseListener                    parseListener;
+    private final boolean                           argFileExpansion;
+    private final Charset                           argFileCharset;
+    private final int                               argFileMaxDepth;
+
+    private final String                            longOptPrefix;
+    private final String                            shortOptPrefix;
+    private final Tokenizer                         tokenizer;
+    private final ParseContextPool                  contextPool;
+    private final Class<? extends RuntimeException> exceptionType;
+
+    /**
+     * Creates a parser using a snapshot of the given command line configuration.
+     *
+     * @param _cmdLine command line to compile
+     */
+    CompiledCommandLine(AbstractBaseCommandLine<?> _cmdLine) {
+        logger = _cmdLine.getLogger();
+        options = Collections.unmodifiableMap(new LinkedHashMap<>(_cmdLine.getOptions()));
+        optionsByOrdinal = _cmdLine.getOptionsByOrdinal().toArray(new CmdArgOption<?>[0]);
+        converters = Collections.unmodifiableMap(new LinkedHashMap<>(_cmdLine.getConverters()));
+        primitiveConverters = Map.copyOf(_cmdLine.getPrimitiveConverters());
+        requiredOptions = createBitSet(optionsByOrdinal.length);
+        for (int i = 0; i < optionsByOrdinal.length; i++) {
+            if (optionsByOrdinal[i].isRequired()) {
+                setBit(requiredOptions, i);
+            }
+        }
+        failOnUnknownArg = _cmdLine.isFailOnUnknownArg();
+        failOnUnknownToken = _cmdLine.isFailOnUnknownToken();
+        failOnDupArg = _cmdLine.isFailOnDupArg();
+        lazyConversion = _cmdLine.isLazyConversion();
+        parseListener = _cmdLine.getParseListener();
+        argFileExpansion = _cmdLine.isArgFileExpansion();
+        argFileCharset = _cmdLine.getArgFileCharset();
+        argFileMaxDepth = _cmdLine.getArgFileMaxDepth();
+        longOptPrefix = _cmdLine.getLongOptPrefix();
+        shortOptPrefix = _cmdLine.getShortOptPrefix();
+        if (_cmdLine.isIgnoreOptionCase()) {
+            requireUniqueFoldedNames(optionsByOrdinal, longOptPrefix);
+        }
+        tokenizer = new Tokenizer(longOptPrefix, shortOptPrefix, optionsByOrdinal, _cmdLine.isLongOptAbbreviation(), _cmdLine.isIgnoreOptionCase());
+        exceptionType = _cmdLine.getExceptionType();
+        contextPool = new ParseContextPool(this, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Ensures that no two long option names only differ in case.
+     *
+     * @param _options options to check
+     * @param _longOptPrefix prefix used in message
+     *
+     * @throws CommandLineException if two names are equal ignoring case
+     */
+    private static void requireUniqueFoldedNames(CmdArgOption<?>[] _options, String _longOptPrefix) {
+        Set<String> names = new HashSet<>();
+        for (CmdArgOption<?> option : _options) {
+            if (option.getName() != null && option.getName().length() > 1 && !names.add(OptionTable.fold(option.getName()))) {
+                throw new CommandLineException("Command-line option '" + _longOptPrefix + option.getName() + "' already defined (case is ignored)");
+            }
+        }
+    }
+
+    /**
+     * Parses and validates the given arguments.
+     *
+     * @param _args arguments to read, maybe null
+     *
+     * @return new ParseResult, never null
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails
+     */
+    public ParseResult parse(String[] _args) {
+        ParseResult result = parseArgs(_args);
+        String failure = validate(result);
+        if (failure != null) {
+            throw createException(failure, exceptionType);
+        }
+        return result;
+    }
+
+    /**
+     * Parses and validates the given command line after splitting it into arguments like a POSIX shell.
+     * <p>
+     * Arguments are separated by whitespace and may be quoted using single quotes (literal text) or
+     * double quotes, a backslash escapes the following character.
+     * Arguments are parsed as ranges of the line, only values kept in the result are copied.
+     * </p>
+     *
+     * @param _line command line to read, maybe null
+     *
+     * @return new ParseResult, never null
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails or a quote is not closed
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseResult parse(CharSequence _line) {
+        ParseResult result = parseArgs(new ShellLineSource(_line, exceptionType));
+        String failure = validate(result);
+        if (failure != null) {
+            throw createException(failure, exceptionType);
+        }
+        return result;
+    }
+
+    /**
+     * Parses and validates the given command line reusing the given context.
+     * <p>
+     * Works like {@link #parse(CharSequence)}, the returned result is the result of the context
+     * (see {@link #parse(String[], ParseContext)}).
+     * </p>
+     *
+     * @param _line command line to read, maybe null
+     * @param _context context created by {@link #createContext()} of this parser
+     *
+     * @return ParseResult of the context, never null
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails, a quote is not closed or context was created by another parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseResult parse(CharSequence _line, ParseContext _context) {
+        ParseResult result = reset(_context);
+        return parse(_context.getSource(_line), result, _context);
+    }
+
+    /**
+     * Parses and validates the command line encoded as UTF-8 in the remaining bytes of the given buffer
+     * (e.g. a frame received from a socket).
+     * <p>
+     * Works like {@link #parse(CharSequence)} without decoding the whole buffer first:
+     * the bytes are split and option names are looked up directly on the bytes.
+     * Only values and unknown tokens which are stored in the result are decoded.
+     * Arguments containing non-ASCII characters are decoded when they are read.
+     * Heap and direct buffers are supported, the position of the buffer is not changed.
+     * </p>
+     *
+     * @param _bytes buffer containing the command line, maybe null
+     *
+     * @return new ParseResult, never null
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails or a quote is not closed
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseResult parse(ByteBuffer _bytes) {
+        return parse(new Utf8CharSequence().reset(_bytes));
+    }
+
+    /**
+     * Parses and validates the command line encoded as UTF-8 in the remaining bytes of the given buffer reusing the given context.
+     * <p>
+     * Works like {@link #parse(ByteBuffer)}, the returned result is the result of the context
+     * (see {@link #parse(String[], ParseContext)}).
+     * As all retained values are decoded, the buffer may be reused as soon as this method returns.
+     * </p>
+     *
+     * @param _bytes buffer containing the command line, maybe null
+     * @param _context context created by {@link #createContext()} of this parser
+     *
+     * @return ParseResult of the context, never null
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails, a quote is not closed or context was created by another parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseResult parse(ByteBuffer _bytes, ParseContext _context) {
+        ParseResult result = reset(_context);
+        return parse(_context.getSource(_bytes), result, _context);
+    }
+
+    /**
+     * Parses and validates the given arguments reusing the given context.
+     * <p>
+     * The returned result is the result of the context, it is only valid until the context is used for the next parse.
+     * </p>
+     *
+     * @param _args arguments to read, maybe null
+     * @param _context context created by {@link #createContext()} of this parser
+     *
+     * @return ParseResult of the context, never null
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails or context was created by another parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseResult parse(String[] _args, ParseContext _context) {
+        ParseResult result = reset(_context);
+        return parse(_context.getSource(_args), result, _context);
+    }
+
+    /**
+     * Parses and validates the given command line reusing the given context without throwing on invalid command lines.
+     *
+     * @param _line command line to read, maybe null
+     * @param _context context created by {@link #createContext()} of this parser
+     *
+     * @return failure message or null if the command line is valid
+     *
+     * @throws RuntimeException (or configured subclass) if a quote is not closed or value conversion fails
+     */
+    String parseLine(CharSequence _line, ParseContext _context) {
+        ParseResult result = reset(_context);
+        parseArgs(_context.getSource(_line), result.getArgBundle(), _context.getCurrentToken(), _context.getNextToken());
+        return validate(result);
+    }
+
+    /**
+     * Clears the given context for the next parse.
+     *
+     * @param _context context to clear
+     * @return emptied result of context
+     */
+    private ParseResult reset(ParseContext _context) {
+        Objects.requireNonNull(_context, "ParseContext required");
+        if (_context.getParser() != this) {
+            throw createException("ParseContext was created by another parser", exceptionType);
+        }
+        return _context.reset();
+    }
+
+    private ParseResult parse(ArgumentSource _args, ParseResult _result, ParseContext _context) {
+        parseArgs(_args, _result.getArgBundle(), _context.getCurrentToken(), _context.getNextToken());
+        String failure = validate(_result);
+        if (failure != null) {
+            throw createException(failure, exceptionType);
+        }
+        return _result;
+    }
+
+    /**
+     * Parses and validates the arguments supplied by the given iterator.
+     * <p>
+     * Arguments are read one at a time with a lookahead of one argument.
+     * Unknown tokens (e.g. file names) are passed to the given consumer while parsing instead of being stored in the result,
+     * so the memory used does not depend on the number of tokens.
+     * Every element is converted to a String using {@link CharSequence#toString()} when it is read.
+     * </p>
+     *
+     * @param _args iterator supplying the arguments
+     * @param _tokenConsumer consumer receiving every unknown token
+     *
+     * @return new ParseResult without unknown tokens, never null
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseResult parseStream(Iterator<? extends CharSequence> _args, Consumer<String> _tokenConsumer) {
+        Objects.requireNonNull(_args, "Iterator required");
+        return parseStream(new ArgumentSource.IteratorSource(_args), _tokenConsumer);
+    }
+
+    private ParseResult parseStream(ArgumentSource _args, Consumer<String> _tokenConsumer) {
+        Objects.requireNonNull(_tokenConsumer, "Token consumer required");
+        ParseResult result = new ParseResult(this, new ArgumentBundle(optionsByOrdinal, parseListener, true, _tokenConsumer));
+        parseArgs(_args, result.getArgBundle(), new Token(), new Token());
+        String failure = validate(result);
+        if (failure != null) {
+            throw createException(failure, exceptionType);
+        }
+        return result;
+    }
+
+    /**
+     * Parses and validates the arguments read from the given reader, one argument per line (e.g. output of {@code find}).
+     * <p>
+     * Works like {@link #parseStream(Iterator, Consumer)}, only the current line is kept in memory.
+     * Blank lines are ignored, leading and trailing whitespace of an argument is removed.<br>
+     * Argument files are never expanded, even if enabled by {@link AbstractBaseCommandLine#withArgFileExpansion(boolean)}.
+     * </p>
+     *
+     * @param _reader reader supplying the arguments, not closed by this method
+     * @param _tokenConsumer consumer receiving every unknown token
+     *
+     * @return new ParseResult without unknown tokens, never null
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails
+     * @throws UncheckedIOException if reading fails
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseResult parseStream(Reader _reader, Consumer<String> _tokenConsumer) {
+        Objects.requireNonNull(_reader, "Reader required");
+        BufferedReader reader = _reader instanceof BufferedReader ? (BufferedReader) _reader : new BufferedReader(_reader);
+        return parseStream(new ArgumentSource.IteratorSource(reader.lines().iterator(), false), _tokenConsumer);
+    }
+
+    /**
+     * Parses the given arguments and only reports them to the given listener.
+     * <p>
+     * No argument is stored and the arguments are not validated, the listener receives every argument
+     * and is responsible for any check (e.g. required options).
+     * A listener registered using {@link AbstractBaseCommandLine#withParseListener(IParseListener)} is not notified.
+     * </p>
+     *
+     * @param _args arguments to read, maybe null
+     * @param _listener listener to notify
+     *
+     * @throws RuntimeException (or configured subclass) if combined short options contain more than one option requiring a value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public void parseToListener(String[] _args, IParseListener _listener) {
+        parseToListener(new ArgumentSource.ArraySource(_args), _listener);
+    }
+
+    /**
+     * Parses the arguments supplied by the given iterator and only reports them to the given listener.
+     * <p>
+     * Works like {@link #parseToListener(String[], IParseListener)}, but reads one argument at a time,
+     * so memory used does not depend on the number of arguments.
+     * </p>
+     *
+     * @param _args iterator supplying the arguments
+     * @param _listener listener to notify
+     *
+     * @throws RuntimeException (or configured subclass) if combined short options contain more than one option requiring a value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public void parseToListener(Iterator<? extends CharSequence> _args, IParseListener _listener) {
+        Objects.requireNonNull(_args, "Iterator required");
+        parseToListener(new ArgumentSource.IteratorSource(_args), _listener);
+    }
+
+    private void parseToListener(ArgumentSource _args, IParseListener _listener) {
+        Objects.requireNonNull(_listener, "Listener required");
+        parseArgs(_args, new ArgumentBundle(optionsByOrdinal, _listener, false, null), new Token(), new Token());
+    }
+
+    /**
+     * Parses and validates the given arguments using a pooled context and passes the result to the given function.
+     * <p>
+     * The context is taken from {@link #getContextPool()} and returned after the function completed,
+     * so parsing does not create garbage once the pool is warm and any number of threads may call this method at once.<br>
+     * The result must not be used after the function returned.
+     * </p>
+     *
+     * @param <R> type returned by function
+     * @param _args arguments to read, maybe null
+     * @param _function function reading the result
+     *
+     * @return value returned by function
+     *
+     * @throws RuntimeException (or configured subclass) if validation fails
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public <R> R parseAndApply(String[] _args, Function<ParseResult, R> _function) {
+        Objects.requireNonNull(_function, "Function required");
+        ParseContext context = contextPool.acquire();
+        try {
+            return _function.apply(parse(_args, context));
+        } finally {
+            contextPool.release(context);
+        }
+    }
+
+    /**
+     * Parses and validates all given argument arrays in parallel using the common {@link ForkJoinPool}.
+     *
+     * @param _argsList argument arrays to read
+     *
+     * @return list of outcomes in the order of the given arrays, never null
+     *
+     * @see #parseAll(List, Executor)
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public List<ParseOutcome> parseAll(List<String[]> _argsList) {
+        return parseAll(_argsList, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses and validates all given argument arrays in parallel using the given executor.
+     * <p>
+     * The list is split into contiguous chunks which are parsed by the executor.
+     * A failure of one argument array does not stop parsing the others, it is reported by the outcome of that array.
+     * </p>
+     *
+     * @param _argsList argument arrays to read
+     * @param _executor executor to parse with
+     *
+     * @return list of outcomes in the order of the given arrays, never null
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public List<ParseOutcome> parseAll(List<String[]> _argsList, Executor _executor) {
+        Objects.requireNonNull(_argsList, "Argument list required");
+        Objects.requireNonNull(_executor, "Executor required");
+
+        int size = _argsList.size();
+        ParseOutcome[] outcomes = new ParseOutcome[size];
+        int chunks = Math.min(size, Runtime.getRuntime().availableProcessors() * 4);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int from = (int) ((long) size * c / chunks);
+            int to = (int) ((long) size * (c + 1) / chunks);
+            futures[c] = CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    outcomes[i] = tryParse(_argsList.get(i));
+                }
+            }, _executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException _ex) {
+            if (_ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) _ex.getCause();
+            } else if (_ex.getCause() instanceof Error) {
+                throw (Error) _ex.getCause();
+            }
+            throw _ex;
+        }
+        return Arrays.asList(outcomes);
+    }
+
+    /**
+     * Parses and validates every argument array of the given stream.
+     * <p>
+     * Nothing is parsed before the returned stream is consumed. If the given stream is parallel,
+     * the argument arrays are parsed in parallel, the encounter order of the given stream is kept.
+     * </p>
+     *
+     * @param _argsStream argument arrays to read
+     *
+     * @return stream of outcomes, never null
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public Stream<ParseOutcome> parseAll(Stream<String[]> _argsStream) {
+        Objects.requireNonNull(_argsStream, "Argument stream required");
+        return _argsStream.map(this::tryParse);
+    }
+
+    /**
+     * Parses and validates the given arguments without throwing.
+     *
+     * @param _args arguments to read
+     * @return outcome, never null
+     */
+    private ParseOutcome tryParse(String[] _args) {
+        try {
+            return new ParseOutcome(_args, parse(_args), null);
+        } catch (RuntimeException _ex) {
+            return new ParseOutcome(_args, null, _ex);
+        }
+    }
+
+    /**
+     * Returns the pool of contexts used by {@link #parseAndApply(String[], Function)}.
+     *
+     * @return ParseContextPool, never null
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseContextPool getContextPool() {
+        return contextPool;
+    }
+
+    /**
+     * Creates a session parsing many command lines (e.g. of a console or script) one after another.
+     *
+     * @return new CommandSession, never null
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public CommandSession createSession() {
+        return new CommandSession(this);
+    }
+
+    /**
+     * Creates a context which can be reused for many calls of {@link #parse(String[], ParseContext)}.
+     *
+     * @return new ParseContext, never null
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public ParseContext createContext() {
+        return new ParseContext(this, emptyResult());
+    }
+
+    /**
+     * Parses the given arguments without validating the result.
+     *
+     * @param _args arguments to read, maybe null
+     *
+     * @return new ParseResult, never null
+     */
+    ParseResult parseArgs(String[] _args) {
+        return parseArgs(new ArgumentSource.ArraySource(_args));
+    }
+
+    /**
+     * Parses the arguments of the given source without validating the result.
+     *
+     * @param _args arguments to read
+     *
+     * @return new ParseResult, never null
+     */
+    ParseResult parseArgs(ArgumentSource _args) {
+        ParseResult result = emptyResult();
+        parseArgs(_args, result.getArgBundle(), new Token(), new Token());
+        return result;
+    }
+
+    /**
+     * Parses the given arguments into the given (empty) bundle.
+     *
+     * @param _args arguments to read
+     * @param _bundle bundle to fill
+     * @param _current token used for the current argument
+     * @param _next token used for the lookahead
+     */
+    private void parseArgs(ArgumentSource _args, ArgumentBundle _bundle, Token _current, Token _next) {
+        if (logger.isLoggable(Level.DEBUG)) {
+            logger.log(Level.DEBUG, "Parsing command-line: {0}", _args);
+        }
+        ArgumentSource args = argFileExpansion && _args.isArgFileAllowed() ? new ArgFileSource(_args, argFileCharset, argFileMaxDepth, exceptionType) : _args;
+
+        // every token is classified once, as lookahead it is carried over to the next iteration
+        Token current = _current;
+        Token next = _next;
+        int ordinal = -1;
+        boolean lookahead = false;
+        boolean trace = logger.isLoggable(Level.TRACE);
+
+        boolean more = args.hasNext();
+        for (int i = 0; more; i++) {
+            if (!lookahead) {
+                ordinal = resolve(classify(args, current));
+            }
+            lookahead = false;
+            more = args.hasNext();
+
+            if (trace) {
+                logger.log(Level.TRACE, "Token {0}: {1}", i, current.getChars() == null ? null : current.getText());
+            }
+
+            if (current.isEmpty()) {
+                continue;
+            }
+
+            CmdArgOption<?> cmdOpt = ordinal < 0 ? null : optionsByOrdinal[ordinal];
+
+            if (current.getKind() == Token.CLUSTER) {
+                handleCluster(_bundle, current);
+            }
+
+            if (more) {
+                int nextOrdinal = resolve(classify(args, next));
+                boolean consumed = false;
+                // counters never take the next token, it is left to the next iteration (e.g. -vvv file.txt)
+                boolean takesValue = cmdOpt == null || !cmdOpt.isCounter();
+
+                if (nextOrdinal < 0 && takesValue) { // looks like proper value
+                    if (cmdOpt != null) {
+                        handleCmdOption(_bundle, ordinal, textOrNull(next));
+                        consumed = true;
+                    } else if (current.isLookingLikeOption()) {
+                        _bundle.addUnknownArg(current.getText(), textOrNull(next));
+                        consumed = true;
+                    } else {
+                        _bundle.addUnknownToken(current.getText());
+                    }
+                } else { // next token is an option too or current option is a counter
+                    if (cmdOpt != null) {
+                        if (cmdOpt.hasValue() && !current.hasValue()) { // command needs option, but got another option
+                            _bundle.addMissingArg(ordinal);
+                        } else if (current.getKind() != Token.CLUSTER || cmdOpt.hasValue()) { // options without value of combined short options were already added
+                            handleCmdOption(_bundle, ordinal, current.getValue());
+                        }
+                    } else {
+                        _bundle.addUnknownToken(current.getText());
+                    }
+                }
+
+                if (consumed) {
+                    more = args.hasNext();
+                } else {
+                    Token swap = current;
+                    current = next;
+                    next = swap;
+                    ordinal = nextOrdinal;
+                    lookahead = true;
+                }
+            } else { // no arguments left
+
+                if (cmdOpt != null) {
+                    if (cmdOpt.hasValue() && !current.hasValue()) { // option needs value but we already on the last token
+                        _bundle.addMissingArg(ordinal);
+                    } else if (cmdOpt.hasValue() && current.hasValue()) { // options value was given using -o=val
+                        handleCmdOption(_bundle, ordinal, current.getValue());
+                    } else if (current.getKind() != Token.CLUSTER) { // not a repeated option)
+                        handleCmdOption(_bundle, ordinal, current.getValue());
+                    }
+                } else if (!current.isLookingLikeOption()) { // we on last token and this does not look like an option
+                    _bundle.addUnknownToken(current.getText());
+                } else if (current.isLookingLikeOption()) { // we did not find an option but this argument looks like one
+                    _bundle.addUnknownArg(current.getText(), null);
+                }
+            }
+        }
+        _bundle.end();
+    }
+
+    /**
+     * Creates a result without any parsed argument.
+     *
+     * @return new ParseResult, never null
+     */
+    ParseResult emptyResult() {
+        return new ParseResult(this, new ArgumentBundle(optionsByOrdinal, parseListener, true, null));
+    }
+
+    /**
+     * Adds the given command option to the appropriate internal map or list.
+     *
+     * @param _bundle bundle to add the option to
+     * @param _ordinal ordinal of option
+     * @param _val value
+     */
+    private void handleCmdOption(ArgumentBundle _bundle, int _ordinal, String _val) {
+        if (optionsByOrdinal[_ordinal].isCounter()) {
+            _bundle.incrementCount(_ordinal);
+        } else if (optionsByOrdinal[_ordinal].isRepeatable()) {
+            _bundle.addKnownMultiArg(_ordinal, trimToNull(_val));
+        } else if (!_bundle.isKnown(_ordinal)) {
+            _bundle.putKnownArg(_ordinal, trimToNull(_val));
+        } else {
+            _bundle.putDupArg(_ordinal, _val);
+        }
+    }
+
+    /**
+     * Reads the next argument of the given source and classifies it ignoring leading and trailing whitespace.
+     *
+     * @param _args source to read argument from
+     * @param _token token to store the classification in
+     *
+     * @return the classified token
+     */
+    private Token classify(ArgumentSource _args, Token _token) {
+        CharSequence chars = _args.nextChars();
+        if (chars == null) {
+            return tokenizer.classify(null, 0, 0, _token);
+        }
+        int start = trimStart(chars, _args.getStart(), _args.getEnd());
+        return tokenizer.classify(chars, start, trimEnd(chars, start, _args.getEnd()), _token);
+    }
+
+    /**
+     * Returns the characters of the given token as String.
+     * If the token covers a whole String argument, that String is returned without copying.
+     *
+     * @param _token classified token
+     * @return String or null if token is empty
+     */
+    private static String textOrNull(Token _token) {
+        return _token.isEmpty() ? null : _token.getText();
+    }
+
+    /**
+     * Looks up the option of a classified token.
+     * For combined short options (e.g. -abcd) this is the option of the last character.
+     *
+     * @param _token classified token
+     *
+     * @return ordinal of option or -1 if token is no known option
+     *
+     * @throws RuntimeException (or configured subclass) if combined short options contain more than one option requiring a value
+     *      or an abbreviated long option matches more than one option
+     */
+    private int resolve(Token _token) {
+        if (_token.getKind() != Token.CLUSTER) {
+            int ordinal = tokenizer.lookup(_token);
+            if (ordinal == OptionTrie.AMBIGUOUS) {
+                throw createException("Option " + longOptPrefix + _token.getChars().subSequence(_token.getNameStart(), _token.getNameEnd())
+                    + " is ambiguous, possible options: " + tokenizer.getCandidates(_token).stream()
+                        .map(o -> longOptPrefix + optionsByOrdinal[o].getName())
+                        .collect(Collectors.joining(", ")), exceptionType);
+            }
+            return ordinal;
+        }
+
+        CharSequence chars = _token.getChars();
+        int ordinal = -1;
+        CmdArgOption<?> prevOption = null;
+        for (int i = _token.getNameStart(); i < _token.getNameEnd(); i++) {
+            ordinal = tokenizer.lookup(chars, i);
+            if (ordinal >= 0 && optionsByOrdinal[ordinal].hasValue()) {
+                if (prevOption == null) { // no option was value before
+                    prevOption = optionsByOrdinal[ordinal];
+                } else { // we already have an option which requires a value
+                    throw createException("Option " + formatOption(prevOption, longOptPrefix, shortOptPrefix) + " requires a value", exceptionType);
+                }
+            }
+        }
+        return ordinal;
+    }
+
+    /**
+     * Adds all options without value and all unknown options of combined short options (e.g. -abcd) to the bundle.
+     *
+     * @param _bundle bundle to put detected arguments to
+     * @param _token classified token
+     */
+    private void handleCluster(ArgumentBundle _bundle, Token _token) {
+        CharSequence chars = _token.getChars();
+        for (int i = _token.getNameStart(); i < _token.getNameEnd(); i++) {
+            int ordinal = tokenizer.lookup(chars, i);
+            if (ordinal < 0) { // got a unknown short option
+                _bundle.addUnknownArg(String.valueOf(chars.charAt(i)), null);
+            } else if (!optionsByOrdinal[ordinal].hasValue()) {
+                handleCmdOption(_bundle, ordinal, null);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first character in the given range which is not whitespace (like {@link String#trim()}).
+     *
+     * @param _chars characters
+     * @param _start start of range (inclusive)
+     * @param _end end of range (exclusive)
+     * @return index
+     */
+    private static int trimStart(CharSequence _chars, int _start, int _end) {
+        int start = _start;
+        while (start < _end && _chars.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index after the last character in the given range which is not whitespace (like {@link String#trim()}).
+     *
+     * @param _chars characters
+     * @param _start index of first non-whitespace character
+     * @param _end end of range (exclusive)
+     * @return index
+     */
+    private static int trimEnd(CharSequence _chars, int _start, int _end) {
+        int end = _end;
+        while (end > _start && _chars.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Validates the given result.
+     *
+     * @param _result result to validate
+     *
+     * @return failure message or null if validation succeeded
+     */
+    String validate(ParseResult _result) {
+        ArgumentBundle bundle = _result.getArgBundle();
+        // failures are only collected when something failed, a valid command line does not allocate anything here
+        List<String> failures = null;
+        if (failOnUnknownArg && !bundle.getUnknownArgs().isEmpty()) {
+            failures = addFailure(failures, "unknown arguments: " + bundle.getUnknownArgs().entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(", ")));
+        }
+        if (failOnUnknownToken && !bundle.getUnknownTokens().isEmpty()) {
+            failures = addFailure(failures, "unknown tokens: " + String.join(", ", bundle.getUnknownTokens()));
+        }
+        if (failOnDupArg && bundle.hasDupArgs()) {
+            failures = addFailure(failures, "duplicate arguments: " + bundle.getDupArgs().keySet().stream().map(x -> formatOption(x, longOptPrefix, shortOptPrefix)).collect(Collectors.joining(", ")));
+        }
+
+        // check all required options are given
+        if (bundle.isAnyUnknown(requiredOptions)) {
+            StringBuilder missingOptions = new StringBuilder("required options missing: ");
+            String delimiter = "";
+            for (int i = 0; i < optionsByOrdinal.length; i++) {
+                if (isBitSet(requiredOptions, i) && !bundle.isKnown(i)) {
+                    missingOptions.append(delimiter).append(optionsByOrdinal[i].getName());
+                    delimiter = ", ";
+                }
+            }
+            failures = addFailure(failures, missingOptions.toString());
+        }
+
+        // check values
+        for (int i = 0; i < bundle.getKnownCount(); i++) {
+            int ordinal = bundle.getKnownOrdinal(i);
+            if (bundle.getKnownMultiArgs(ordinal) != null) { // repeatable options are not checked
+                continue;
+            }
+            CmdArgOption<?> option = optionsByOrdinal[ordinal];
+            String value = bundle.getKnownArg(ordinal);
+            if (option.hasValue() && value == null && option.getDefaultValue() == null) {
+                failures = addFailure(failures, "argument '" + formatOption(option, longOptPrefix, shortOptPrefix) + "' requires a value");
+            } else if (!option.hasValue() && value != null) {
+                failures = addFailure(failures, "argument '" + formatOption(option, longOptPrefix, shortOptPrefix) + "' cannot have a value");
+            }
+            // check value type, in lazy mode values are checked on first access
+            if (!lazyConversion && option.hasValue() && value != null) {
+                try {
+                    _result.checkValue(option, ordinal, value);
+                } catch (InvalidOptionValueException _ex) {
+                    failures = addFailure(failures, _ex.getMessage());
+                } catch (Exception _ex) {
+                    failures = addFailure(failures, String.format("argument '%s' has invalid value ('%s'): %s",
+                        formatOption(option, longOptPrefix, shortOptPrefix),
+                        value,
+                        _ex.getMessage()));
+                }
+            }
+        }
+
+        if (failures != null) {
+            return "Parsing of command-line failed: " + String.join(", ", failures);
+        }
+        return null;
+    }
+
+    /**
+     * Adds a failure message to the given list, creating the list on first use.
+     *
+     * @param _failures list of failures, maybe null
+     * @param _failure message to add
+     *
+     * @return list containing the message
+     */
+    private static List<String> addFailure(List<String> _failures, String _failure) {
+        List<String> failures = _failures == null ? new ArrayList<>() : _failures;
+        failures.add(_failure);
+        return failures;
+    }
+
+    /**
+     * Looks up the ordinal of an option by name or short name of the specified option object.
+     *
+     * @param _option option to lookup, may not be null
+     * @return ordinal if found, -1 otherwise
+     */
+    int getOrdinal(CmdArgOption<?> _option) {
+        requireOption(_option);
+
+        int ordinal = tokenizer.lookup(_option.getName());
+        if (ordinal < 0) {
+            ordinal = tokenizer.lookup(_option.getShortName());
+        }
+
+        return ordinal;
+    }
+
+    /**
+     * Returns the option with the given ordinal.
+     *
+     * @param _ordinal ordinal of option
+     * @return option, never null
+     */
+    CmdArgOption<?> getOption(int _ordinal) {
+        return optionsByOrdinal[_ordinal];
+    }
+
+    /**
+     * Returns the number of options this parser was compiled with.
+     *
+     * @return int
+     */
+    int getOptionCount() {
+        return optionsByOrdinal.length;
+    }
+
+    /**
+     * Returns a unmodifiable Map of all options this parser was compiled with.
+     *
+     * @return unmodifiable Map, never null
+     */
+    public Map<String, CmdArgOption<?>> getOptions() {
+        return options;
+    }
+
+    /**
+     * Returns the converter registered for the given type.
+     *
+     * @param _type data type
+     * @return converter, maybe null
+     */
+    IValueConverter<?> getConverter(Class<?> _type) {
+        return converters.get(_type);
+    }
+
+    /**
+     * Returns the converter to a primitive type registered for the given type.
+     *
+     * @param _type data type
+     * @return {@link IIntValueConverter}, {@link ILongValueConverter}, {@link IDoubleValueConverter}, {@link IBooleanValueConverter} or null
+     */
+    Object getPrimitiveConverter(Class<?> _type) {
+        return primitiveConverters.get(_type);
+    }
+
+    /**
+     * Returns the long option name prefix.
+     *
+     * @return String
+     */
+    public String getLongOptPrefix() {
+        return longOptPrefix;
+    }
+
+    /**
+     * Returns the short option name prefix.
+     *
+     * @return String
+     */
+    public String getShortOptPrefix() {
+        return shortOptPrefix;
+    }
+
+    /**
+     * Returns true when values are only converted when they are read.
+     *
+     * @return boolean
+     */
+    public boolean isLazyConversion() {
+        return lazyConversion;
+    }
+
+    /**
+     * Returns the class of the exception thrown when parsing fails.
+     *
+     * @return Class, never null
+     */
+    public Class<? extends RuntimeException> getExceptionType() {
+        return exceptionType;
+    }
+
+}
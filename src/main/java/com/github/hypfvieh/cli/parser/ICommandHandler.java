@@ -0,0 +1,36 @@
+package com.github.hypfvieh.cli.parser;
+
+/**
+ * Receives the commands read by a {@link CommandSession}.
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+@FunctionalInterface
+public interface ICommandHandler {
+
+    /**
+     * Called for every valid command.
+     * <p>
+     * The result is reused for the next command, so it must not be used after this method returned.
+     * </p>
+     *
+     * @param _lineNumber number of the (first) line of the command, starting at 1
+     * @param _result parsed command
+     */
+    void onCommand(long _lineNumber, ParseResult _result);
+
+    /**
+     * Called for every invalid command.
+     * <p>
+     * Does nothing by default, the number of invalid commands is returned by {@link CommandSession#run(java.io.Reader, ICommandHandler)}.
+     * </p>
+     *
+     * @param _lineNumber number of the (first) line of the command, starting at 1
+     * @param _line the invalid command
+     * @param _failure description of the failure
+     */
+    default void onError(long _lineNumber, String _line, String _failure) {
+        // ignored by default
+    }
+
+}
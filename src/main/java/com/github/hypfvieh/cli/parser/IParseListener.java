@@ -0,0 +1,84 @@
+package com.github.hypfvieh.cli.parser;
+
+/**
+ * Callback notified about every argument while a command line is parsed.
+ * <p>
+ * Register a listener using {@link AbstractBaseCommandLine#withParseListener(IParseListener)} to be notified in addition
+ * to building the {@link ParseResult}, or use {@link CompiledCommandLine#parseToListener(String[], IParseListener)}
+ * to only receive the events without storing any argument.
+ * </p>
+ * <p>
+ * Events are sent in the order the arguments appear on the command line, before the result is validated.
+ * All methods do nothing by default. A registered listener may be called by many threads at once
+ * if the compiled parser is shared, so it has to be thread-safe in that case.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public interface IParseListener {
+
+    /**
+     * Called for every occurrence of a known option, except duplicates of non-repeatable options.
+     *
+     * @param _option option found
+     */
+    default void onOption(CmdArgOption<?> _option) {
+        // ignored by default
+    }
+
+    /**
+     * Called after {@link #onOption(CmdArgOption)} if the option has a value.
+     *
+     * @param _option option found
+     * @param _value value of option, maybe null if value was empty
+     */
+    default void onValue(CmdArgOption<?> _option, String _value) {
+        // ignored by default
+    }
+
+    /**
+     * Called if a non-repeatable option is found again.
+     *
+     * @param _option option found
+     * @param _value value of the duplicate, maybe null
+     */
+    default void onDuplicate(CmdArgOption<?> _option, String _value) {
+        // ignored by default
+    }
+
+    /**
+     * Called if an option requiring a value was not followed by a value.
+     *
+     * @param _option option without value
+     */
+    default void onMissingValue(CmdArgOption<?> _option) {
+        // ignored by default
+    }
+
+    /**
+     * Called for every argument looking like an option which is not registered.
+     *
+     * @param _name argument as given on the command line (or single character if part of combined short options)
+     * @param _value value following the argument, maybe null
+     */
+    default void onUnknownArg(String _name, String _value) {
+        // ignored by default
+    }
+
+    /**
+     * Called for every argument which is neither an option nor a value of an option.
+     *
+     * @param _token argument
+     */
+    default void onUnknownToken(String _token) {
+        // ignored by default
+    }
+
+    /**
+     * Called after the last argument was parsed.
+     */
+    default void onEnd() {
+        // ignored by default
+    }
+
+}
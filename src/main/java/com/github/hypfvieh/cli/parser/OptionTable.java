@@ -0,0 +1,335 @@
+package com.github.hypfvieh.cli.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only lookup table for option names which looks up a range of characters without creating a String.
+ * <p>
+ * Long and short name of every option are mapped to the ordinal of the option.<br>
+ * Names with more than one character are stored using a perfect hash (CHD, "compress, hash and displace")
+ * which is built once when the table is created: names are distributed to buckets by their hash,
+ * every bucket gets a displacement which moves all of its names to free slots.
+ * A lookup hashes the characters of the token once, reads the displacement of its bucket and compares
+ * the name in the resulting slot with the token, so every lookup costs exactly one comparison,
+ * regardless of the number of options.
+ * </p>
+ * <p>
+ * If case is ignored, names with more than one character are stored folded to lower case and the characters
+ * of a token are folded while they are hashed and compared, so no lower case copy of a token is created.
+ * </p>
+ * <p>
+ * Names with a single character (short options) are stored in a table indexed by the character,
+ * a flat array for ASCII characters and a sorted array for all others, so combined short options (e.g. {@code -xvfz})
+ * are looked up with a single array access per character.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+final class OptionTable {
+
+    /** Average number of names per bucket. */
+    private static final int BUCKET_SIZE   = 4;
+    /** Maximum number of displacements tried for a single bucket before another seed is used. */
+    private static final int MAX_DISPLACE  = 1 << 16;
+    private static final int MAX_SEEDS     = 64;
+
+    private final String[]   keys;
+    private final int[]      ordinals;
+    private final int[]      displacements;
+    private final int        mask;
+    private final int        bucketMask;
+    private final int        seed;
+    private final boolean    foldCase;
+
+    private final int[]      asciiOrdinals = new int[128];
+    private char[]           otherChars    = new char[0];
+    private int[]            otherOrdinals = new int[0];
+
+    /**
+     * Creates a table for the given options.
+     *
+     * @param _options options indexed by their ordinal
+     */
+    OptionTable(CmdArgOption<?>[] _options) {
+        this(_options, false);
+    }
+
+    /**
+     * Creates a table for the given options.
+     *
+     * @param _options options indexed by their ordinal
+     * @param _foldCase true to ignore the case of names with more than one character
+     */
+    OptionTable(CmdArgOption<?>[] _options, boolean _foldCase) {
+        foldCase = _foldCase;
+        Arrays.fill(asciiOrdinals, -1);
+
+        // the first option using a name wins
+        Map<String, Integer> names = new LinkedHashMap<>();
+        for (int i = 0; i < _options.length; i++) {
+            for (String name : new String[] {_options[i].getName(), _options[i].getShortName()}) {
+                if (name != null && name.length() == 1) {
+                    putChar(name.charAt(0), i);
+                } else if (name != null) {
+                    names.putIfAbsent(_foldCase ? fold(name) : name, i);
+                }
+            }
+        }
+
+        // keep at least 20% of the slots free, so the displacement of the last buckets is found quickly
+        int capacity = tableSize(names.size() + names.size() / 4);
+        keys = new String[capacity];
+        ordinals = new int[capacity];
+        mask = capacity - 1;
+        displacements = new int[tableSize((names.size() + BUCKET_SIZE - 1) / BUCKET_SIZE)];
+        bucketMask = displacements.length - 1;
+
+        // names having the same hash cannot be separated by any displacement, so another seed is used then
+        int s = 1;
+        while (!build(names, s * 0x9E3779B9)) {
+            if (++s > MAX_SEEDS) {
+                throw new IllegalStateException("Unable to create perfect hash for option names: " + names.keySet());
+            }
+            Arrays.fill(keys, null);
+        }
+        seed = s * 0x9E3779B9;
+    }
+
+    /**
+     * Tries to place all names using the given seed.
+     *
+     * @param _names names and ordinals
+     * @param _seed seed of hash function
+     * @return true if all names were placed
+     */
+    private boolean build(Map<String, Integer> _names, int _seed) {
+        List<List<String>> buckets = new ArrayList<>();
+        for (int i = 0; i < displacements.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (String name : _names.keySet()) {
+            buckets.get(bucket(hash(_seed, name, 0, name.length(), false))).add(name);
+        }
+
+        // place large buckets first while there are many free slots
+        Integer[] order = new Integer[buckets.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        int[] slots = new int[BUCKET_SIZE * 4];
+        for (int b : order) {
+            List<String> bucket = buckets.get(b);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            if (slots.length < bucket.size()) {
+                slots = new int[bucket.size()];
+            }
+            int displacement = findDisplacement(bucket, _seed, slots);
+            if (displacement < 0) {
+                return false;
+            }
+            displacements[b] = displacement;
+            for (int i = 0; i < bucket.size(); i++) {
+                keys[slots[i]] = bucket.get(i);
+                ordinals[slots[i]] = _names.get(bucket.get(i));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Searches a displacement which moves all names of a bucket to free and distinct slots.
+     *
+     * @param _bucket names of bucket
+     * @param _seed seed of hash function
+     * @param _slots receives the slots of the names
+     * @return displacement or -1 if none was found
+     */
+    private int findDisplacement(List<String> _bucket, int _seed, int[] _slots) {
+        for (int d = 0; d < MAX_DISPLACE; d++) {
+            boolean free = true;
+            for (int i = 0; i < _bucket.size() && free; i++) {
+                String name = _bucket.get(i);
+                _slots[i] = slot(hash(_seed, name, 0, name.length(), false), d);
+                free = keys[_slots[i]] == null;
+                for (int j = 0; j < i && free; j++) {
+                    free = _slots[j] != _slots[i];
+                }
+            }
+            if (free) {
+                return d;
+            }
+        }
+        return -1;
+    }
+
+    private void putChar(char _c, int _ordinal) {
+        if (_c < asciiOrdinals.length) {
+            if (asciiOrdinals[_c] < 0) {
+                asciiOrdinals[_c] = _ordinal;
+            }
+            return;
+        }
+        int idx = Arrays.binarySearch(otherChars, _c);
+        if (idx >= 0) {
+            return;
+        }
+        int insert = -idx - 1;
+        char[] chars = new char[otherChars.length + 1];
+        int[] ords = new int[otherOrdinals.length + 1];
+        System.arraycopy(otherChars, 0, chars, 0, insert);
+        System.arraycopy(otherOrdinals, 0, ords, 0, insert);
+        System.arraycopy(otherChars, insert, chars, insert + 1, otherChars.length - insert);
+        System.arraycopy(otherOrdinals, insert, ords, insert + 1, otherOrdinals.length - insert);
+        chars[insert] = _c;
+        ords[insert] = _ordinal;
+        otherChars = chars;
+        otherOrdinals = ords;
+    }
+
+    /**
+     * Looks up the option registered with the given single character name.
+     *
+     * @param _c character
+     *
+     * @return ordinal of option or -1 if no option uses this name
+     */
+    int get(char _c) {
+        if (_c < asciiOrdinals.length) {
+            return asciiOrdinals[_c];
+        }
+        int idx = Arrays.binarySearch(otherChars, _c);
+        return idx < 0 ? -1 : otherOrdinals[idx];
+    }
+
+    /**
+     * Looks up the option registered with the name found in the given range of characters.
+     *
+     * @param _chars characters
+     * @param _start start index (inclusive)
+     * @param _end end index (exclusive)
+     *
+     * @return ordinal of option or -1 if no option uses this name
+     */
+    int get(CharSequence _chars, int _start, int _end) {
+        if (_end - _start == 1) {
+            return get(_chars.charAt(_start));
+        }
+        int hash = hash(seed, _chars, _start, _end, foldCase);
+        int idx = slot(hash, displacements[bucket(hash)]);
+        String key = keys[idx];
+        if (key == null) {
+            return -1;
+        }
+        boolean equal = foldCase ? foldedEquals(key, _chars, _start, _end) : regionEquals(key, _chars, _start, _end);
+        return equal ? ordinals[idx] : -1;
+    }
+
+    /**
+     * Compares a String with a range of characters.
+     *
+     * @param _key string
+     * @param _chars characters
+     * @param _start start index (inclusive)
+     * @param _end end index (exclusive)
+     *
+     * @return true if equal
+     */
+    static boolean regionEquals(String _key, CharSequence _chars, int _start, int _end) {
+        if (_key.length() != _end - _start) {
+            return false;
+        }
+        for (int i = 0; i < _key.length(); i++) {
+            if (_key.charAt(i) != _chars.charAt(_start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares a folded String with a range of characters which are folded while they are compared.
+     *
+     * @param _key folded string
+     * @param _chars characters
+     * @param _start start index (inclusive)
+     * @param _end end index (exclusive)
+     *
+     * @return true if equal ignoring case
+     */
+    static boolean foldedEquals(String _key, CharSequence _chars, int _start, int _end) {
+        if (_key.length() != _end - _start) {
+            return false;
+        }
+        for (int i = 0; i < _key.length(); i++) {
+            if (_key.charAt(i) != fold(_chars.charAt(_start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Folds the case of a character the same way {@link String#equalsIgnoreCase(String)} compares characters.
+     *
+     * @param _c character
+     * @return folded character
+     */
+    static char fold(char _c) {
+        if (_c < 128) {
+            return _c >= 'A' && _c <= 'Z' ? (char) (_c + ('a' - 'A')) : _c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(_c));
+    }
+
+    /**
+     * Folds the case of all characters of a String.
+     *
+     * @param _str string
+     * @return folded string
+     */
+    static String fold(String _str) {
+        char[] chars = new char[_str.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(_str.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Hashes the given range of characters (FNV-1a on chars, starting with the seed).
+     */
+    private static int hash(int _seed, CharSequence _chars, int _start, int _end, boolean _fold) {
+        int hash = _seed;
+        for (int i = _start; i < _end; i++) {
+            char c = _chars.charAt(i);
+            hash = (hash ^ (_fold ? fold(c) : c)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    private int bucket(int _hash) {
+        return (_hash ^ _hash >>> 16) & bucketMask;
+    }
+
+    private int slot(int _hash, int _displacement) {
+        // finalizer of MurmurHash3, so every displacement gives a different distribution
+        int h = _hash ^ _displacement * 0x85EBCA6B;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h & mask;
+    }
+
+    private static int tableSize(int _entries) {
+        return Integer.highestOneBit(Math.max(1, _entries) * 2 - 1);
+    }
+
+}
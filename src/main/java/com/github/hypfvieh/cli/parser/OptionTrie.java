@@ -0,0 +1,152 @@
+package com.github.hypfvieh.cli.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-only character trie over the long names of all options, used to resolve abbreviated long options
+ * (e.g. {@code --verb} for {@code --verbose}) like GNU getopt does.
+ * <p>
+ * Every node knows the option of a name ending there and the only option whose name starts with the path to the node,
+ * so resolving a prefix walks the trie once and takes time proportional to the length of the prefix.<br>
+ * If case is ignored, names are stored folded and the characters of a prefix are folded while walking the trie.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+final class OptionTrie {
+
+    /** Prefix of more than one option name. */
+    static final int      AMBIGUOUS = -2;
+
+    private final Node    root      = new Node();
+    private final boolean foldCase;
+
+    /**
+     * Creates a trie for the long names of the given options.
+     *
+     * @param _options options indexed by their ordinal
+     */
+    OptionTrie(CmdArgOption<?>[] _options) {
+        this(_options, false);
+    }
+
+    /**
+     * Creates a trie for the long names of the given options.
+     *
+     * @param _options options indexed by their ordinal
+     * @param _foldCase true to ignore the case of names
+     */
+    OptionTrie(CmdArgOption<?>[] _options, boolean _foldCase) {
+        foldCase = _foldCase;
+        for (int i = 0; i < _options.length; i++) {
+            if (_options[i].getName() != null) {
+                put(_foldCase ? OptionTable.fold(_options[i].getName()) : _options[i].getName(), i);
+            }
+        }
+    }
+
+    private void put(String _name, int _ordinal) {
+        Node node = root;
+        node.addUnique(_ordinal);
+        for (int i = 0; i < _name.length(); i++) {
+            node = node.getOrAddChild(_name.charAt(i));
+            node.addUnique(_ordinal);
+        }
+        node.ordinal = _ordinal;
+    }
+
+    /**
+     * Resolves the option whose name is given in the range of characters or starts with it.
+     * A name matching exactly is preferred over names starting with it, an empty range does not abbreviate any name.
+     *
+     * @param _chars characters
+     * @param _start start index (inclusive)
+     * @param _end end index (exclusive)
+     *
+     * @return ordinal of option, -1 if no option name starts with the range or {@link #AMBIGUOUS} if more than one does
+     */
+    int get(CharSequence _chars, int _start, int _end) {
+        Node node = _start < _end ? find(_chars, _start, _end) : null;
+        if (node == null) {
+            return -1;
+        }
+        return node.ordinal >= 0 ? node.ordinal : node.unique;
+    }
+
+    /**
+     * Returns the ordinals of all options whose name starts with the given range of characters.
+     *
+     * @param _chars characters
+     * @param _start start index (inclusive)
+     * @param _end end index (exclusive)
+     *
+     * @return ordinals in the order of option names, empty if none or range is empty
+     */
+    List<Integer> getCandidates(CharSequence _chars, int _start, int _end) {
+        List<Integer> candidates = new ArrayList<>();
+        Node node = _start < _end ? find(_chars, _start, _end) : null;
+        if (node != null) {
+            node.collect(candidates);
+        }
+        return candidates;
+    }
+
+    private Node find(CharSequence _chars, int _start, int _end) {
+        Node node = root;
+        for (int i = _start; i < _end && node != null; i++) {
+            char c = _chars.charAt(i);
+            node = node.getChild(foldCase ? OptionTable.fold(c) : c);
+        }
+        return node;
+    }
+
+    /**
+     * Single node of the trie, children are kept sorted by their character.
+     */
+    private static final class Node {
+        private char[] chars    = new char[0];
+        private Node[] children = new Node[0];
+        private int    ordinal  = -1;
+        private int    unique   = -1;
+
+        void addUnique(int _ordinal) {
+            unique = unique == -1 ? _ordinal : AMBIGUOUS;
+        }
+
+        Node getChild(char _c) {
+            int idx = Arrays.binarySearch(chars, _c);
+            return idx < 0 ? null : children[idx];
+        }
+
+        Node getOrAddChild(char _c) {
+            int idx = Arrays.binarySearch(chars, _c);
+            if (idx >= 0) {
+                return children[idx];
+            }
+            int insert = -idx - 1;
+            char[] newChars = new char[chars.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            System.arraycopy(chars, insert, newChars, insert + 1, chars.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+            newChars[insert] = _c;
+            newChildren[insert] = new Node();
+            chars = newChars;
+            children = newChildren;
+            return newChildren[insert];
+        }
+
+        void collect(List<Integer> _ordinals) {
+            if (ordinal >= 0) {
+                _ordinals.add(ordinal);
+            }
+            for (Node child : children) {
+                child.collect(_ordinals);
+            }
+        }
+    }
+
+}
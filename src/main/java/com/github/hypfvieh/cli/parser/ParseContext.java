@@ -0,0 +1,114 @@
+package com.github.hypfvieh.cli.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable state for parsing many command lines with the same {@link CompiledCommandLine}.
+ * <p>
+ * Created by {@link CompiledCommandLine#createContext()}.<br>
+ * {@link CompiledCommandLine#parse(String[], ParseContext)} clears and refills the context instead of creating a new
+ * {@link ParseResult}, so once the context has seen the options used, parsing flags and primitive options does not allocate anything.<br>
+ * The returned result belongs to the context and is only valid until the next parse using the same context.
+ * </p>
+ * <p>
+ * A context must only be used by one thread at a time, e.g. keep one context per worker thread.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public final class ParseContext {
+    private final CompiledCommandLine        parser;
+    private final ParseResult                result;
+    private final Token                      current = new Token();
+    private final Token                      next    = new Token();
+    private final ArgumentSource.ArraySource source  = new ArgumentSource.ArraySource();
+    private ShellLineSource                  lineSource;
+    private Utf8CharSequence                 bytes;
+
+    ParseContext(CompiledCommandLine _parser, ParseResult _result) {
+        parser = _parser;
+        result = _result;
+    }
+
+    /**
+     * Returns the parser which created this context.
+     *
+     * @return CompiledCommandLine, never null
+     */
+    public CompiledCommandLine getParser() {
+        return parser;
+    }
+
+    /**
+     * Returns the result of the last parse using this context.
+     *
+     * @return ParseResult, never null (without any argument if nothing was parsed yet)
+     */
+    public ParseResult getResult() {
+        return result;
+    }
+
+    /**
+     * Removes everything collected by the previous parse.
+     *
+     * @return the emptied result
+     */
+    ParseResult reset() {
+        result.clear();
+        current.clear();
+        next.clear();
+        source.reset(null);
+        if (lineSource != null) {
+            lineSource.reset(null);
+        }
+        if (bytes != null) {
+            bytes.reset(null);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the reusable source reading the given arguments.
+     *
+     * @param _args arguments, maybe null
+     * @return ArgumentSource
+     */
+    ArgumentSource getSource(String[] _args) {
+        return source.reset(_args);
+    }
+
+    /**
+     * Returns the reusable source splitting the given command line.
+     *
+     * @param _line command line, maybe null
+     * @return ArgumentSource
+     */
+    ArgumentSource getSource(CharSequence _line) {
+        if (lineSource == null) {
+            lineSource = new ShellLineSource(null, parser.getExceptionType());
+        }
+        return lineSource.reset(_line);
+    }
+
+    /**
+     * Returns the reusable source splitting the command line encoded in the remaining bytes of the given buffer.
+     *
+     * @param _bytes UTF-8 encoded command line, maybe null
+     * @return ArgumentSource
+     */
+    ArgumentSource getSource(ByteBuffer _bytes) {
+        if (bytes == null) {
+            bytes = new Utf8CharSequence();
+        }
+        return getSource(bytes.reset(_bytes));
+    }
+
+    Token getCurrentToken() {
+        return current;
+    }
+
+    Token getNextToken() {
+        return next;
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.github.hypfvieh.cli.parser;
+
+import static com.github.hypfvieh.cli.parser.StaticUtils.*;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free pool of {@link ParseContext}s of one {@link CompiledCommandLine}.
+ * <p>
+ * Threads take a context using {@link #acquire()} and hand it back using {@link #release(ParseContext)}
+ * after the result was consumed, so every context is only used by one thread at a time.<br>
+ * If the pool is empty a new context is created, if it is full a released context is dropped, so the pool never blocks.
+ * </p>
+ * <p>
+ * Every thread starts looking at a different slot and slots are padded to separate cache lines,
+ * so threads on different cores usually do not compete for the same slot.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public final class ParseContextPool {
+    /** Distance between two used slots, 16 references fill at least one cache line of 64 bytes. */
+    private static final int                         SLOT_DISTANCE = 16;
+
+    private final CompiledCommandLine                parser;
+    private final int                                capacity;
+    private final AtomicReferenceArray<ParseContext> slots;
+
+    /**
+     * Creates a new, empty pool.
+     *
+     * @param _parser parser to create contexts for
+     * @param _capacity maximum number of contexts kept in the pool
+     */
+    ParseContextPool(CompiledCommandLine _parser, int _capacity) {
+        parser = Objects.requireNonNull(_parser, "Parser required");
+        if (_capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        capacity = _capacity;
+        slots = new AtomicReferenceArray<>(_capacity * SLOT_DISTANCE);
+    }
+
+    /**
+     * Takes a context from the pool or creates a new one if the pool is empty.
+     *
+     * @return ParseContext, never null
+     */
+    public ParseContext acquire() {
+        int start = firstSlot();
+        for (int i = 0; i < capacity; i++) {
+            int idx = slotIndex(start + i);
+            ParseContext context = slots.get(idx);
+            if (context != null && slots.compareAndSet(idx, context, null)) {
+                return context;
+            }
+        }
+        return parser.createContext();
+    }
+
+    /**
+     * Returns a context to the pool.<br>
+     * The context is cleared, so the pool does not keep any parsed argument alive.
+     * The result of the context must not be used afterwards.
+     *
+     * @param _context context taken from this pool (or created by the same parser)
+     *
+     * @throws RuntimeException (or configured subclass) if context was created by another parser
+     */
+    public void release(ParseContext _context) {
+        Objects.requireNonNull(_context, "ParseContext required");
+        if (_context.getParser() != parser) {
+            throw createException("ParseContext was created by another parser", parser.getExceptionType());
+        }
+        _context.reset();
+
+        int start = firstSlot();
+        for (int i = 0; i < capacity; i++) {
+            int idx = slotIndex(start + i);
+            if (slots.get(idx) == null && slots.compareAndSet(idx, null, _context)) {
+                return;
+            }
+        }
+        // pool is full, context is left to the garbage collector
+    }
+
+    /**
+     * Returns the maximum number of contexts kept in the pool.
+     *
+     * @return int
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of contexts currently available in the pool.
+     *
+     * @return int
+     */
+    public int getAvailable() {
+        int available = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (slots.get(slotIndex(i)) != null) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    private int firstSlot() {
+        return firstSlot(Thread.currentThread().getId(), capacity);
+    }
+
+    /**
+     * Returns the slot a thread starts searching at.
+     * Thread ids are assigned sequentially, so the id is mixed first (Fibonacci hashing)
+     * to spread threads created together (e.g. of an executor) over all slots.
+     *
+     * @param _threadId id of thread
+     * @param _capacity number of slots
+     * @return slot, between 0 (inclusive) and capacity (exclusive)
+     */
+    static int firstSlot(long _threadId, int _capacity) {
+        int hash = Long.hashCode(_threadId) * 0x9E3779B9;
+        return (int) ((hash & 0xFFFFFFFFL) * _capacity >>> 32);
+    }
+
+    private int slotIndex(int _slot) {
+        return _slot % capacity * SLOT_DISTANCE;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.github.hypfvieh.cli.parser;
+
+/**
+ * Outcome of parsing one argument array of a batch.
+ * <p>
+ * Created by {@link CompiledCommandLine#parseAll(java.util.List)} and its variants.
+ * Contains either the {@link ParseResult} or the exception thrown while parsing.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public final class ParseOutcome {
+    private final String[]         args;
+    private final ParseResult      result;
+    private final RuntimeException failure;
+
+    ParseOutcome(String[] _args, ParseResult _result, RuntimeException _failure) {
+        args = _args;
+        result = _result;
+        failure = _failure;
+    }
+
+    /**
+     * Returns the parsed arguments.
+     *
+     * @return String array, maybe null if null was parsed
+     */
+    public String[] getArgs() {
+        return args;
+    }
+
+    /**
+     * Returns true if the arguments were parsed and validated successfully.
+     *
+     * @return boolean
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the result of a successful parse.
+     *
+     * @return ParseResult, null if parsing failed
+     */
+    public ParseResult getResult() {
+        return result;
+    }
+
+    /**
+     * Returns the exception thrown while parsing.
+     *
+     * @return RuntimeException (or configured subclass), null if parsing succeeded
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the result or throws the exception thrown while parsing.
+     *
+     * @return ParseResult, never null
+     *
+     * @throws RuntimeException (or configured subclass) if parsing failed
+     */
+    public ParseResult getResultOrThrow() {
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [success=" + isSuccess()
+            + (failure == null ? "" : ", failure=" + failure.getMessage()) + "]";
+    }
+
+}
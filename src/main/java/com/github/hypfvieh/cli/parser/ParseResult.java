@@ -0,0 +1,1029 @@
+package com.github.hypfvieh.cli.parser;
+
+import static com.github.hypfvieh.cli.parser.StaticUtils.*;
+
+import com.github.hypfvieh.cli.parser.converter.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * Result of parsing a command line with a {@link CompiledCommandLine}.
+ * <p>
+ * Every parse without a {@link ParseContext} creates a new instance whose arguments are never modified afterwards,
+ * so it can safely be handed to and read by other threads.<br>
+ * A result obtained through a {@link ParseContext} (e.g. {@link CompiledCommandLine#parse(String[], ParseContext)},
+ * {@link CompiledCommandLine#parseAndApply(String[], java.util.function.Function)} or a {@link CommandSession})
+ * is the result owned by that context: it is cleared and reused by the next parse with that context,
+ * so it is only valid until then.<br>
+ * Values are converted only once (during validation or on first access) and kept in unmodifiable lists.
+ * The lists are published atomically: threads reading the same value at the same time may at worst convert it twice,
+ * but all of them get the same list and therefore the same converted instances.<br>
+ * Values of options with a primitive converter (e.g. {@code int}) are stored unboxed in arrays indexed by ordinal
+ * during validation, so parsing does not allocate. The typed getters (e.g. {@link #getInt(CmdArgOption)}) read them
+ * without converting again and {@link #getArg(CmdArgOption)} boxes the stored value on first access.
+ * With lazy conversion ({@link AbstractBaseCommandLine#withLazyConversion(boolean)}) nothing is stored during validation,
+ * the typed getters then convert the String on every call.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public final class ParseResult {
+
+    private static final Set<Class<?>> INT_TYPES     = Set.of(int.class, Integer.class, short.class, Short.class, byte.class, Byte.class);
+    private static final Set<Class<?>> LONG_TYPES    = Set.of(long.class, Long.class, int.class, Integer.class, short.class, Short.class, byte.class, Byte.class);
+    private static final Set<Class<?>> DOUBLE_TYPES  = Set.of(double.class, Double.class, float.class, Float.class,
+        long.class, Long.class, int.class, Integer.class, short.class, Short.class, byte.class, Byte.class);
+    private static final Set<Class<?>> BOOLEAN_TYPES = Set.of(boolean.class, Boolean.class);
+
+    private final CompiledCommandLine           parser;
+    private final ArgumentBundle                argBundle;
+    /** Converted values indexed by ordinal, every value is only converted once. */
+    private final AtomicReferenceArray<List<?>> convertedValues;
+    /** Values of options with a primitive converter converted during validation, integers and booleans (0 or 1). */
+    private final long[]                        longValues;
+    /** Values of options with a primitive converter converted during validation, integers are stored here as well. */
+    private final double[]                      doubleValues;
+    /** Ordinals of options whose value is stored in {@link #longValues} and {@link #doubleValues}. */
+    private final long[]                        storedValues;
+
+    ParseResult(CompiledCommandLine _parser, ArgumentBundle _argBundle) {
+        parser = Objects.requireNonNull(_parser, "Parser required");
+        argBundle = Objects.requireNonNull(_argBundle, "ArgumentBundle required");
+        convertedValues = new AtomicReferenceArray<>(_parser.getOptionCount());
+        longValues = new long[_parser.getOptionCount()];
+        doubleValues = new double[_parser.getOptionCount()];
+        storedValues = createBitSet(_parser.getOptionCount());
+    }
+
+    /**
+     * Returns the value associated with argument option.
+     * <p>
+     * If no value is present, the default value of that option is returned (and might by <code>null</code>). <br>
+     * If the option does not support values or option was not set, null is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param <T> type of option value
+     * @param _option option
+     *
+     * @return value, maybe <code>null</code>
+     */
+    public <T> T getArg(CmdArgOption<T> _option) {
+        return _option == null ? null : getArg(_option, null);
+    }
+
+    /**
+     * Returns the value associated with argument option.
+     * <p>
+     * If no value is present, the given default value is used.<br>
+     * If the given default is also <code>null</code>, the default of that option is returned (and might by <code>null</code>).
+     * If the option does not support values or if the option was not set, <code>null</code> is returned.<br>
+     * </p>
+     *
+     * @param <T> type of option value
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value, maybe <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getArg(CmdArgOption<T> _option, T _default) {
+        requireOption(_option);
+
+        int ordinal = parser.getOrdinal(_option);
+        if (ordinal < 0) {
+            throw optionNotDefined(_option, parser.getExceptionType());
+        }
+        List<T> args = getConvertedArgs(_option, ordinal, _default);
+        if (args == null || args.isEmpty()) {
+            if (_option.isOptional()) {
+                return null;
+            } else {
+                throw createException("Required option " + formatOption(_option, parser.getLongOptPrefix(), parser.getShortOptPrefix()) + " not set", parser.getExceptionType());
+            }
+        }
+        T convertedVal = args.get(0);
+        return _option.getDataType().isPrimitive() ? convertedVal : (T) _option.getDataType().cast(convertedVal);
+    }
+
+    /**
+     * Returns the value associated with argument option.
+     * <p>
+     * If no value is present, the default value of that option is returned (and might by <code>null</code>).
+     * If the option does not support values or if the option was not set, <code>null</code> is returned.<br>
+     * </p>
+     *
+     * @param <T> type of option value
+     * @param _option option
+     *
+     * @return List, maybe empty or <code>null</code>
+     */
+    public <T> List<T> getArgs(CmdArgOption<T> _option) {
+        return getArgs(_option, null);
+    }
+
+    /**
+     * Returns the value associated with argument option.
+     * <p>
+     * If no value is present, the given default value is used.<br>
+     * If the given default is also <code>null</code>, the default of that option is returned (and might by <code>null</code>).
+     * If the option does not support values or if the option was not set, <code>null</code> is returned.<br>
+     * </p>
+     *
+     * @param <T> type of option value
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return List, maybe empty or <code>null</code>
+     */
+    public <T> List<T> getArgs(CmdArgOption<T> _option, T _default) {
+        requireOption(_option);
+        List<T> args = getConvertedArgs(_option, parser.getOrdinal(_option), _default);
+        return args == null ? null : new ArrayList<>(args);
+    }
+
+    /**
+     * Returns the converted values of the given option or its default.
+     *
+     * @param <T> type of option value
+     * @param _option option
+     * @param _ordinal ordinal of option, maybe -1
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return unmodifiable List, maybe empty or <code>null</code> if option does not support values
+     */
+    private <T> List<T> getConvertedArgs(CmdArgOption<T> _option, int _ordinal, T _default) {
+        if (!_option.hasValue()) {
+            return null;
+        }
+        List<T> args = _ordinal < 0 ? List.of() : getConvertedValues(_option, _ordinal);
+        return args.isEmpty() ? convertValues(_option, _default, List.of()) : args;
+    }
+
+    /**
+     * Returns the converted values of the given option.<br>
+     * Values are converted and checked against the possible values on first access only,
+     * later calls return the stored values.
+     *
+     * @param <T> type of option value
+     * @param _option option
+     * @param _ordinal ordinal of option
+     *
+     * @return unmodifiable List, empty if option was not set
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> getConvertedValues(CmdArgOption<T> _option, int _ordinal) {
+        // values are only stored for the option registered in the parser, a different option with the same name may use a different type
+        boolean registered = _option.equals(parser.getOption(_ordinal));
+        List<T> cached = registered ? (List<T>) convertedValues.get(_ordinal) : null;
+        if (cached != null) {
+            return cached;
+        }
+        Object stored = registered && isBitSet(storedValues, _ordinal) ? boxStoredValue(_option.getDataType(), _ordinal) : null;
+        if (stored != null) {
+            return publishConvertedValues(_ordinal, List.of((T) stored));
+        }
+
+        List<String> strVals = getStringValues(_option, _ordinal);
+        if (strVals.isEmpty()) {
+            return List.of();
+        }
+        List<T> converted = Collections.unmodifiableList(convertValues(_option, null, strVals));
+        return registered ? publishConvertedValues(_ordinal, converted) : converted;
+    }
+
+    /**
+     * Stores the converted values of the given ordinal unless another thread stored them first.
+     *
+     * @param <T> type of option value
+     * @param _ordinal ordinal of option
+     * @param _converted converted values
+     *
+     * @return the stored values, which are the given values or the values stored by another thread
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> publishConvertedValues(int _ordinal, List<T> _converted) {
+        return convertedValues.compareAndSet(_ordinal, null, _converted) ? _converted : (List<T>) convertedValues.get(_ordinal);
+    }
+
+    /**
+     * Returns the values of the given option as Strings.
+     *
+     * @param _option option
+     * @param _ordinal ordinal of option
+     *
+     * @return List, maybe empty
+     */
+    private List<String> getStringValues(CmdArgOption<?> _option, int _ordinal) {
+        List<String> strVals = new ArrayList<>();
+        if (_option.getDelimiter() != null) {
+            ValueElements elements = getValueElements(_option, _ordinal);
+            while (elements.next()) {
+                strVals.add(elements.toString());
+            }
+        } else if (_option.isRepeatable()) {
+            List<String> list = argBundle.getKnownMultiArgs(_ordinal);
+            if (list != null && !list.isEmpty()) {
+                strVals.addAll(list);
+            }
+        } else {
+            String val = argBundle.getKnownArg(_ordinal);
+            if (val != null) {
+                strVals.add(val);
+            }
+        }
+        return strVals;
+    }
+
+    /**
+     * Returns the value of an integer option (int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the default value of that option is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not an integer option, unknown to the parser or was not set and has no default value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public int getInt(CmdArgOption<?> _option) {
+        int ordinal = getPrimitiveOrdinal(_option, INT_TYPES, "int");
+        if (isStored(_option, ordinal)) {
+            return (int) longValues[ordinal];
+        }
+        String val = getPrimitiveValue(_option, ordinal);
+        if (val == null) {
+            return ((Number) requireDefaultValue(_option)).intValue();
+        }
+        return convertInt(_option, getPrimitiveConverter(_option), val, 0, val.length());
+    }
+
+    /**
+     * Returns the value of an integer option (int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the given default is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not an integer option or unknown to the parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public int getInt(CmdArgOption<?> _option, int _default) {
+        int ordinal = getPrimitiveOrdinal(_option, INT_TYPES, "int");
+        if (isStored(_option, ordinal)) {
+            return (int) longValues[ordinal];
+        }
+        String val = getPrimitiveValue(_option, ordinal);
+        return val == null ? _default : convertInt(_option, getPrimitiveConverter(_option), val, 0, val.length());
+    }
+
+    /**
+     * Returns the value of an integer option (long, int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the default value of that option is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not an integer option, unknown to the parser or was not set and has no default value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public long getLong(CmdArgOption<?> _option) {
+        int ordinal = getPrimitiveOrdinal(_option, LONG_TYPES, "long");
+        if (isStored(_option, ordinal)) {
+            return longValues[ordinal];
+        }
+        String val = getPrimitiveValue(_option, ordinal);
+        if (val == null) {
+            return ((Number) requireDefaultValue(_option)).longValue();
+        }
+        return convertLong(_option, getPrimitiveConverter(_option), val, 0, val.length());
+    }
+
+    /**
+     * Returns the value of an integer option (long, int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the given default is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not an integer option or unknown to the parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public long getLong(CmdArgOption<?> _option, long _default) {
+        int ordinal = getPrimitiveOrdinal(_option, LONG_TYPES, "long");
+        if (isStored(_option, ordinal)) {
+            return longValues[ordinal];
+        }
+        String val = getPrimitiveValue(_option, ordinal);
+        return val == null ? _default : convertLong(_option, getPrimitiveConverter(_option), val, 0, val.length());
+    }
+
+    /**
+     * Returns the value of a numeric option (double, float, long, int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the default value of that option is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not a numeric option, unknown to the parser or was not set and has no default value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public double getDouble(CmdArgOption<?> _option) {
+        int ordinal = getPrimitiveOrdinal(_option, DOUBLE_TYPES, "double");
+        if (isStored(_option, ordinal)) {
+            return doubleValues[ordinal];
+        }
+        String val = getPrimitiveValue(_option, ordinal);
+        if (val == null) {
+            return ((Number) requireDefaultValue(_option)).doubleValue();
+        }
+        return convertDouble(_option, getPrimitiveConverter(_option), val, 0, val.length());
+    }
+
+    /**
+     * Returns the value of a numeric option (double, float, long, int, short or byte) without boxing.
+     * <p>
+     * If the option was not set, the given default is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not a numeric option or unknown to the parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public double getDouble(CmdArgOption<?> _option, double _default) {
+        int ordinal = getPrimitiveOrdinal(_option, DOUBLE_TYPES, "double");
+        if (isStored(_option, ordinal)) {
+            return doubleValues[ordinal];
+        }
+        String val = getPrimitiveValue(_option, ordinal);
+        return val == null ? _default : convertDouble(_option, getPrimitiveConverter(_option), val, 0, val.length());
+    }
+
+    /**
+     * Returns the value of a boolean option without boxing.
+     * <p>
+     * For options without value this returns true if the option was set.<br>
+     * If a boolean option was not set, the default value of that option is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not a boolean option, unknown to the parser or was not set and has no default value
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean getBoolean(CmdArgOption<?> _option) {
+        if (!requireOption(_option).hasValue()) {
+            return hasArg(_option);
+        }
+        int ordinal = getPrimitiveOrdinal(_option, BOOLEAN_TYPES, "boolean");
+        if (isStored(_option, ordinal)) {
+            return longValues[ordinal] != 0;
+        }
+        String val = getPrimitiveValue(_option, ordinal);
+        if (val == null) {
+            return (Boolean) requireDefaultValue(_option);
+        }
+        return convertBoolean(_option, getPrimitiveConverter(_option), val);
+    }
+
+    /**
+     * Returns the value of a boolean option without boxing.
+     * <p>
+     * For options without value this returns true if the option was set.<br>
+     * If a boolean option was not set, the given default is returned.<br>
+     * If the option is a repeatable option, the value of the first occurrence is returned.
+     * </p>
+     *
+     * @param _option option
+     * @param _default default to use when no value present (overrides default specified in option)
+     *
+     * @return value
+     *
+     * @throws RuntimeException if option is not a boolean option or unknown to the parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public boolean getBoolean(CmdArgOption<?> _option, boolean _default) {
+        if (!requireOption(_option).hasValue()) {
+            return hasArg(_option) || _default;
+        }
+        int ordinal = getPrimitiveOrdinal(_option, BOOLEAN_TYPES, "boolean");
+        if (isStored(_option, ordinal)) {
+            return longValues[ordinal] != 0;
+        }
+        String val = getPrimitiveValue(_option, ordinal);
+        return val == null ? _default : convertBoolean(_option, getPrimitiveConverter(_option), val);
+    }
+
+    /**
+     * Returns all values of an integer option (int, short or byte) as array without boxing.
+     * <p>
+     * All values of a repeatable option and all elements of delimited values (see {@link CmdArgOption.Builder#delimiter(Character)})
+     * are returned in order of occurrence.<br>
+     * If the option was not set, the default value of that option is returned as only element (or an empty array without default value).
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return array, never null
+     *
+     * @throws RuntimeException if option is not an integer option or unknown to the parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public int[] getIntArray(CmdArgOption<?> _option) {
+        ValueElements elements = getValueElements(_option, getPrimitiveOrdinal(_option, INT_TYPES, "int"));
+        int[] result = new int[elements.count()];
+        if (result.length == 0) {
+            return _option.getDefaultValue() == null ? result : new int[] {((Number) _option.getDefaultValue()).intValue()};
+        }
+        Object converter = getPrimitiveConverter(_option);
+        for (int i = 0; elements.next(); i++) {
+            result[i] = convertInt(_option, converter, elements.getValue(), elements.getStart(), elements.getEnd());
+        }
+        return result;
+    }
+
+    /**
+     * Returns all values of an integer option (long, int, short or byte) as array without boxing.
+     * <p>
+     * All values of a repeatable option and all elements of delimited values (see {@link CmdArgOption.Builder#delimiter(Character)})
+     * are returned in order of occurrence.<br>
+     * If the option was not set, the default value of that option is returned as only element (or an empty array without default value).
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return array, never null
+     *
+     * @throws RuntimeException if option is not an integer option or unknown to the parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public long[] getLongArray(CmdArgOption<?> _option) {
+        ValueElements elements = getValueElements(_option, getPrimitiveOrdinal(_option, LONG_TYPES, "long"));
+        long[] result = new long[elements.count()];
+        if (result.length == 0) {
+            return _option.getDefaultValue() == null ? result : new long[] {((Number) _option.getDefaultValue()).longValue()};
+        }
+        Object converter = getPrimitiveConverter(_option);
+        for (int i = 0; elements.next(); i++) {
+            result[i] = convertLong(_option, converter, elements.getValue(), elements.getStart(), elements.getEnd());
+        }
+        return result;
+    }
+
+    /**
+     * Returns all values of a numeric option (double, float, long, int, short or byte) as array without boxing.
+     * <p>
+     * All values of a repeatable option and all elements of delimited values (see {@link CmdArgOption.Builder#delimiter(Character)})
+     * are returned in order of occurrence.<br>
+     * If the option was not set, the default value of that option is returned as only element (or an empty array without default value).
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return array, never null
+     *
+     * @throws RuntimeException if option is not a numeric option or unknown to the parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public double[] getDoubleArray(CmdArgOption<?> _option) {
+        ValueElements elements = getValueElements(_option, getPrimitiveOrdinal(_option, DOUBLE_TYPES, "double"));
+        double[] result = new double[elements.count()];
+        if (result.length == 0) {
+            return _option.getDefaultValue() == null ? result : new double[] {((Number) _option.getDefaultValue()).doubleValue()};
+        }
+        Object converter = getPrimitiveConverter(_option);
+        for (int i = 0; elements.next(); i++) {
+            result[i] = convertDouble(_option, converter, elements.getValue(), elements.getStart(), elements.getEnd());
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the given option was at least used once in the command line.
+     *
+     * @param _option option to check
+     * @return true if it was used at least once, false otherwise
+     *
+     * @throws RuntimeException if option is required but unknown to the parser
+     */
+    public boolean hasArg(CmdArgOption<?> _option) {
+        requireOption(_option);
+        int ordinal = parser.getOrdinal(_option);
+
+        // option is required but was not set
+        if (_option.isRequired() && ordinal < 0) {
+            throw optionNotDefined(_option, parser.getExceptionType());
+        }
+        return ordinal >= 0 && argBundle.isKnown(ordinal);
+    }
+
+    /**
+     * Returns the number of occurrences of the given option.
+     * <p>
+     * If the option was never set, 0 is returned.
+     * </p>
+     *
+     * @param _option option
+     *
+     * @return number of occurrences
+     */
+    public int getArgCount(CmdArgOption<?> _option) {
+        int ordinal = parser.getOrdinal(_option);
+
+        if (ordinal < 0 || !argBundle.isKnown(ordinal)) {
+            return 0;
+        } else if (_option.isCounter()) {
+            return argBundle.getCount(ordinal);
+        }
+        List<String> multiArgs = argBundle.getKnownMultiArgs(ordinal);
+
+        return multiArgs == null ? 1 : multiArgs.size();
+    }
+
+    /**
+     * Returns the number of occurrences of the given counter option (e.g. 3 for -vvv).
+     * <p>
+     * If the option was never set, 0 is returned.
+     * </p>
+     *
+     * @param _option counter option
+     *
+     * @return number of occurrences
+     *
+     * @throws RuntimeException if option is not a counter option or unknown to the parser
+     *
+     * @since 1.1.2 - 2026-10-17
+     */
+    public int getCount(CmdArgOption<?> _option) {
+        if (!requireOption(_option).isCounter()) {
+            throw createException("Option " + formatOption(_option, parser.getLongOptPrefix(), parser.getShortOptPrefix()) + " is not a counter", parser.getExceptionType());
+        }
+        int ordinal = parser.getOrdinal(_option);
+        if (ordinal < 0) {
+            throw optionNotDefined(_option, parser.getExceptionType());
+        }
+        return argBundle.getCount(ordinal);
+    }
+
+    /**
+     * Returns a unmodifiable Map of all successfully parsed, known arguments.
+     *
+     * @return unmodifiable Map, never null
+     */
+    public Map<CmdArgOption<?>, String> getKnownArgs() {
+        return Collections.unmodifiableMap(argBundle.getKnownArgs());
+    }
+
+    /**
+     * Returns a unmodifiable Map of all parsed, but unknown arguments.<br>
+     * The value of the map will represent the parsed value, or null if no value found.
+     *
+     * @return unmodifiable Map, never null
+     */
+    public Map<String, String> getUnknownArgs() {
+        return Collections.unmodifiableMap(argBundle.getUnknownArgs());
+    }
+
+    /**
+     * Returns a unmodifiable list of all unknown option arguments.
+     *
+     * @return unmodifiable list, never null
+     */
+    public List<String> getUnknownTokens() {
+        return Collections.unmodifiableList(argBundle.getUnknownTokens());
+    }
+
+    /**
+     * Returns a unmodifiable Map of all parsed, known but duplicated arguments. <br>
+     * The value of the map will represent the parsed value, or null if no value found.<br>
+     * Only arguments which are not repeatable will be added to the duplicate list.
+     *
+     * @return unmodifiable Map, never null
+     */
+    public Map<CmdArgOption<?>, String> getDupArgs() {
+        return Collections.unmodifiableMap(argBundle.getDupArgs());
+    }
+
+    /**
+     * Returns the parser which created this result.
+     *
+     * @return CompiledCommandLine, never null
+     */
+    public CompiledCommandLine getParser() {
+        return parser;
+    }
+
+    /**
+     * Removes all parsed arguments and converted values so this result can be reused by a {@link ParseContext}.
+     */
+    void clear() {
+        argBundle.clear();
+        for (int i = 0; i < convertedValues.length(); i++) {
+            convertedValues.set(i, null);
+        }
+        Arrays.fill(storedValues, 0L);
+    }
+
+    /**
+     * Returns the bundle holding the parsed arguments.
+     *
+     * @return ArgumentBundle, never null
+     */
+    ArgumentBundle getArgBundle() {
+        return argBundle;
+    }
+
+    /**
+     * Returns the first value of the given option as String.
+     * For options with delimiter the first element of the first value is returned.
+     *
+     * @param _option option
+     * @param _ordinal ordinal of option
+     *
+     * @return value or null if option was not set
+     */
+    private String getPrimitiveValue(CmdArgOption<?> _option, int _ordinal) {
+        if (_option.getDelimiter() != null) {
+            ValueElements elements = getValueElements(_option, _ordinal);
+            return elements.next() ? elements.toString() : null;
+        }
+        List<String> multiArgs = argBundle.getKnownMultiArgs(_ordinal);
+        if (multiArgs != null) {
+            return multiArgs.isEmpty() ? null : multiArgs.get(0);
+        }
+        return argBundle.getKnownArg(_ordinal);
+    }
+
+    /**
+     * True if the value of the given option was converted and stored during validation.
+     * Values are only stored for the option registered in the parser, a different option with the same name may use a different type.
+     *
+     * @param _option option
+     * @param _ordinal ordinal of option
+     *
+     * @return boolean
+     */
+    private boolean isStored(CmdArgOption<?> _option, int _ordinal) {
+        return isBitSet(storedValues, _ordinal) && _option.equals(parser.getOption(_ordinal));
+    }
+
+    /**
+     * Returns the stored value of an option boxed to the given data type.
+     *
+     * @param _type data type of option
+     * @param _ordinal ordinal of option
+     *
+     * @return boxed value or null if values of the data type are not stored
+     */
+    private Object boxStoredValue(Class<?> _type, int _ordinal) {
+        if (_type == int.class || _type == Integer.class) {
+            return (int) longValues[_ordinal];
+        } else if (_type == long.class || _type == Long.class) {
+            return longValues[_ordinal];
+        } else if (_type == double.class || _type == Double.class) {
+            return doubleValues[_ordinal];
+        } else if (_type == float.class || _type == Float.class) {
+            return (float) doubleValues[_ordinal];
+        } else if (_type == boolean.class || _type == Boolean.class) {
+            return longValues[_ordinal] != 0;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the ordinal of the given option after checking its data type.
+     *
+     * @param _option option
+     * @param _types data types allowed for the option
+     * @param _typeName name of the requested type used in exception message
+     *
+     * @return ordinal
+     *
+     * @throws RuntimeException if option has a data type not in the given types or if option is unknown to the parser
+     */
+    private int getPrimitiveOrdinal(CmdArgOption<?> _option, Set<Class<?>> _types, String _typeName) {
+        requireOption(_option);
+        if (!_types.contains(_option.getDataType())) {
+            throw createException("Option " + formatOption(_option, parser.getLongOptPrefix(), parser.getShortOptPrefix()) + " is not of type " + _typeName, parser.getExceptionType());
+        }
+
+        int ordinal = parser.getOrdinal(_option);
+        if (ordinal < 0) {
+            throw optionNotDefined(_option, parser.getExceptionType());
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns the elements of all values of the given option.
+     *
+     * @param _option option
+     * @param _ordinal ordinal of option, maybe -1
+     * @return ValueElements, never null
+     */
+    private ValueElements getValueElements(CmdArgOption<?> _option, int _ordinal) {
+        if (_ordinal < 0) {
+            return new ValueElements(null, null, null);
+        }
+        return new ValueElements(argBundle.getKnownMultiArgs(_ordinal), argBundle.getKnownArg(_ordinal), _option.getDelimiter());
+    }
+
+    /**
+     * Returns the default value of the given option.
+     *
+     * @param _option option
+     * @return default value, never null
+     *
+     * @throws RuntimeException if option has no default value
+     */
+    private Object requireDefaultValue(CmdArgOption<?> _option) {
+        if (_option.getDefaultValue() == null) {
+            throw createException((_option.isRequired() ? "Required option " : "Option ")
+                + formatOption(_option, parser.getLongOptPrefix(), parser.getShortOptPrefix()) + " not set", parser.getExceptionType());
+        }
+        return _option.getDefaultValue();
+    }
+
+    /**
+     * Returns the converter to a primitive type for the given option.
+     * Options with possible values are always converted to objects because the value has to be looked up in the possible values.
+     *
+     * @param _option option
+     * @return converter or null if values have to be converted using {@link #getArg(CmdArgOption)}
+     */
+    private Object getPrimitiveConverter(CmdArgOption<?> _option) {
+        return _option.getPossibleValues().isEmpty() ? parser.getPrimitiveConverter(_option.getDataType()) : null;
+    }
+
+    private int convertInt(CmdArgOption<?> _option, Object _converter, CharSequence _chars, int _start, int _end) {
+        try {
+            if (_converter instanceof IIntValueConverter) {
+                return ((IIntValueConverter) _converter).convertInt(_chars, _start, _end);
+            }
+            return ((Number) convertValue(_option, _chars.subSequence(_start, _end).toString())).intValue();
+        } catch (RuntimeException _ex) {
+            throw invalidValue(_option, _chars, _start, _end, _ex);
+        }
+    }
+
+    private long convertLong(CmdArgOption<?> _option, Object _converter, CharSequence _chars, int _start, int _end) {
+        try {
+            if (_converter instanceof ILongValueConverter) {
+                return ((ILongValueConverter) _converter).convertLong(_chars, _start, _end);
+            } else if (_converter instanceof IIntValueConverter) {
+                return ((IIntValueConverter) _converter).convertInt(_chars, _start, _end);
+            }
+            return ((Number) convertValue(_option, _chars.subSequence(_start, _end).toString())).longValue();
+        } catch (RuntimeException _ex) {
+            throw invalidValue(_option, _chars, _start, _end, _ex);
+        }
+    }
+
+    private double convertDouble(CmdArgOption<?> _option, Object _converter, CharSequence _chars, int _start, int _end) {
+        try {
+            if (_converter instanceof IDoubleValueConverter) {
+                return ((IDoubleValueConverter) _converter).convertDouble(_chars, _start, _end);
+            } else if (_converter instanceof ILongValueConverter) {
+                return ((ILongValueConverter) _converter).convertLong(_chars, _start, _end);
+            } else if (_converter instanceof IIntValueConverter) {
+                return ((IIntValueConverter) _converter).convertInt(_chars, _start, _end);
+            }
+            return ((Number) convertValue(_option, _chars.subSequence(_start, _end).toString())).doubleValue();
+        } catch (RuntimeException _ex) {
+            throw invalidValue(_option, _chars, _start, _end, _ex);
+        }
+    }
+
+    private boolean convertBoolean(CmdArgOption<?> _option, Object _converter, String _val) {
+        try {
+            if (_converter instanceof IBooleanValueConverter) {
+                return ((IBooleanValueConverter) _converter).convertBoolean(_val);
+            }
+            return (Boolean) convertValue(_option, _val);
+        } catch (RuntimeException _ex) {
+            throw invalidValue(_option, _val, 0, _val.length(), _ex);
+        }
+    }
+
+    /**
+     * Converts the value of the given option using configured converters or returns default.
+     *
+     * @param <T> type
+     *
+     * @param _option option
+     * @param _default default if option not set
+     * @param _strVals string values
+     *
+     * @return value or null
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> convertValues(CmdArgOption<T> _option, T _default, List<String> _strVals) {
+        List<T> resultList = new ArrayList<>();
+        if (_strVals.isEmpty()) {
+            if (_default == null) {
+                var x = (T) _option.getDefaultValue();
+                if (x != null) {
+                    resultList.add(x);
+                }
+            } else {
+                resultList.add(_default);
+            }
+            return resultList;
+        }
+
+        for (String val : _strVals) {
+            resultList.add(convertValue(_option, val));
+        }
+        return resultList;
+    }
+
+    /**
+     * Converts a single value of the given option using configured converters.
+     *
+     * @param <T> type
+     *
+     * @param _option option
+     * @param _val string value
+     *
+     * @return converted value
+     *
+     * @throws RuntimeException if no converter exists or the value is not one of the possible values
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T convertValue(CmdArgOption<T> _option, String _val) {
+        IValueConverter<?> converter = parser.getConverter(_option.getDataType());
+        if (converter == null) { // handle missing converter for option's data type
+            throw createException("No converter for type " + _option.getDataType().getName(), parser.getExceptionType());
+        }
+        try {
+            T convertedVal = (T) converter.convert(_val);
+            validatePossibleValues(_option, convertedVal);
+            return convertedVal;
+        } catch (RuntimeException _ex) {
+            throw invalidValue(_option, _val, 0, _val == null ? 0 : _val.length(), _ex);
+        }
+    }
+
+    /**
+     * Returns the exception to throw when a value could not be converted.
+     * <p>
+     * Without lazy conversion invalid values are already reported while parsing, so the exception is returned unchanged.<br>
+     * With lazy conversion (see {@link AbstractBaseCommandLine#withLazyConversion(boolean)}) the failure
+     * is reported using the configured exception type and the message used when parsing.
+     * </p>
+     *
+     * @param _option option
+     * @param _chars value
+     * @param _start index of first character of value
+     * @param _end index after last character of value
+     * @param _ex exception thrown by converter
+     *
+     * @return exception to throw
+     */
+    private RuntimeException invalidValue(CmdArgOption<?> _option, CharSequence _chars, int _start, int _end, RuntimeException _ex) {
+        if (!parser.isLazyConversion() || parser.getExceptionType().isInstance(_ex)) {
+            return _ex;
+        } else if (_ex instanceof InvalidOptionValueException) {
+            return createException(_ex.getMessage(), parser.getExceptionType());
+        }
+        return createException(String.format("argument '%s' has invalid value ('%s'): %s",
+            formatOption(_option, parser.getLongOptPrefix(), parser.getShortOptPrefix()),
+            _chars == null ? null : _chars.subSequence(_start, _end),
+            _ex.getMessage()), parser.getExceptionType());
+    }
+
+    /**
+     * Checks that the given value can be converted to the data type of the option.
+     * <p>
+     * Values of primitive options are converted without boxing and stored in arrays indexed by ordinal,
+     * so checking a valid value does not allocate anything (unless the converter does).<br>
+     * Values of other options are converted once and stored, so {@link #getArg(CmdArgOption)} does not have to convert them again.<br>
+     * Values of options with delimiter are checked element by element.
+     * </p>
+     *
+     * @param _option option
+     * @param _ordinal ordinal of option
+     * @param _val string value, not null
+     *
+     * @throws RuntimeException if the value cannot be converted
+     */
+    void checkValue(CmdArgOption<?> _option, int _ordinal, String _val) {
+        Object converter = getPrimitiveConverter(_option);
+        if (converter == null) {
+            for (Object convertedVal : getConvertedValues(_option, _ordinal)) {
+                if (!_option.getDataType().isPrimitive()) {
+                    _option.getDataType().cast(convertedVal);
+                }
+            }
+        } else if (_option.getDelimiter() == null) {
+            storeValue(_ordinal, converter, _val);
+        } else {
+            ValueElements elements = new ValueElements(null, _val, _option.getDelimiter());
+            while (elements.next()) {
+                checkValue(converter, elements.getValue(), elements.getStart(), elements.getEnd());
+            }
+        }
+    }
+
+    /**
+     * Converts a value using the given primitive converter and stores it without boxing.
+     *
+     * @param _ordinal ordinal of option
+     * @param _converter primitive converter
+     * @param _val string value, not null
+     *
+     * @throws RuntimeException if the value cannot be converted
+     */
+    private void storeValue(int _ordinal, Object _converter, String _val) {
+        if (_converter instanceof IIntValueConverter) {
+            longValues[_ordinal] = ((IIntValueConverter) _converter).convertInt(_val, 0, _val.length());
+            doubleValues[_ordinal] = longValues[_ordinal];
+        } else if (_converter instanceof ILongValueConverter) {
+            longValues[_ordinal] = ((ILongValueConverter) _converter).convertLong(_val, 0, _val.length());
+            doubleValues[_ordinal] = longValues[_ordinal];
+        } else if (_converter instanceof IDoubleValueConverter) {
+            doubleValues[_ordinal] = ((IDoubleValueConverter) _converter).convertDouble(_val, 0, _val.length());
+        } else if (_converter instanceof IBooleanValueConverter) {
+            longValues[_ordinal] = ((IBooleanValueConverter) _converter).convertBoolean(_val) ? 1 : 0;
+        } else {
+            return;
+        }
+        setBit(storedValues, _ordinal);
+    }
+
+    private void checkValue(Object _converter, String _val, int _start, int _end) {
+        if (_converter instanceof IIntValueConverter) {
+            ((IIntValueConverter) _converter).convertInt(_val, _start, _end);
+        } else if (_converter instanceof ILongValueConverter) {
+            ((ILongValueConverter) _converter).convertLong(_val, _start, _end);
+        } else if (_converter instanceof IDoubleValueConverter) {
+            ((IDoubleValueConverter) _converter).convertDouble(_val, _start, _end);
+        } else if (_converter instanceof IBooleanValueConverter) {
+            ((IBooleanValueConverter) _converter).convertBoolean(_val.substring(_start, _end));
+        }
+    }
+
+    private <T> void validatePossibleValues(CmdArgOption<T> _cmdOpt, T _val) {
+        if (_cmdOpt.getPossibleValues().isEmpty()) {
+            return;
+        }
+
+        if (!_cmdOpt.getPossibleValues().containsKey(_val)) {
+            String possVals = _cmdOpt.getPossibleValues().keySet().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+
+            throw new InvalidOptionValueException(
+                "Value '" + _val + "' is not valid for option '" + formatOption(_cmdOpt, parser.getLongOptPrefix(), parser.getShortOptPrefix()) + "', possible are: " + possVals);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [knownArgs=" + argBundle.getKnownArgs().keySet() + ", knownMultiArgs=" + argBundle.getKnownMultiArgs().keySet()
+            + ", unknownArgs=" + argBundle.getUnknownArgs() + ", unknownTokens=" + argBundle.getUnknownTokens() + "]";
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.github.hypfvieh.cli.parser;
+
+import static com.github.hypfvieh.cli.parser.StaticUtils.*;
+
+/**
+ * Source splitting a single command line into arguments using the quoting rules of a POSIX shell.
+ * <p>
+ * Rules:
+ * </p>
+ * <ul>
+ * <li>arguments are separated by whitespace (spaces, tabs, line breaks), repeated whitespace is ignored</li>
+ * <li>text in single quotes is taken literally</li>
+ * <li>in double quotes a backslash only escapes {@code $}, {@code `}, {@code "}, {@code \} and line breaks</li>
+ * <li>outside of quotes a backslash escapes the following character, a backslash before a line break joins the lines</li>
+ * <li>quoted and unquoted parts without whitespace in between form a single argument (e.g. {@code --name="a b"})</li>
+ * </ul>
+ * <p>
+ * Arguments are handed to the parser as ranges of the line. Only arguments which had quotes or escapes
+ * removed from their middle are copied, all others are only turned into a String when their value is kept.<br>
+ * A line given as {@link Utf8CharSequence} is split on its bytes, arguments containing non-ASCII characters are decoded when they are read.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+final class ShellLineSource extends ArgumentSource {
+    private final Class<? extends RuntimeException> exceptionType;
+    private StringBuilder                           buffer;
+
+    private CharSequence                            line;
+    private int                                     length;
+    private int                                     pos;
+    private int                                     sliceStart;
+    private int                                     sliceEnd;
+    private boolean                                 copy;
+
+    /**
+     * Creates a new source.
+     *
+     * @param _line command line, maybe null
+     * @param _exceptionType exception thrown if a quote is not closed
+     */
+    ShellLineSource(CharSequence _line, Class<? extends RuntimeException> _exceptionType) {
+        exceptionType = _exceptionType;
+        reset(_line);
+    }
+
+    /**
+     * Starts reading the given line, so a source can be reused for many lines.
+     *
+     * @param _line command line, null to read nothing
+     * @return this
+     */
+    ShellLineSource reset(CharSequence _line) {
+        line = _line;
+        length = _line == null ? 0 : _line.length();
+        pos = 0;
+        return this;
+    }
+
+    @Override
+    boolean hasNext() {
+        // a line continuation between arguments separates them like whitespace
+        while (pos < length) {
+            if (line.charAt(pos) <= ' ') {
+                pos++;
+            } else if (line.charAt(pos) == '\\' && pos + 1 < length && lineContinuation(pos) > 0) {
+                pos += lineContinuation(pos);
+            } else {
+                break;
+            }
+        }
+        return pos < length;
+    }
+
+    @Override
+    String next() {
+        CharSequence chars = nextChars();
+        return chars.subSequence(getStart(), getEnd()).toString();
+    }
+
+    @Override
+    CharSequence nextChars() {
+        hasNext();
+        sliceStart = -1;
+        sliceEnd = -1;
+        copy = false;
+
+        while (pos < length) {
+            char c = line.charAt(pos);
+            if (c <= ' ') {
+                break;
+            } else if (c == '\'') {
+                int close = indexOf('\'', pos + 1);
+                append(pos + 1, close);
+                pos = close + 1;
+            } else if (c == '"') {
+                readDoubleQuoted();
+            } else if (c == '\\' && pos + 1 < length) {
+                int skip = lineContinuation(pos);
+                if (skip == 0) {
+                    append(pos + 1, pos + 2);
+                    skip = 2;
+                }
+                pos += skip;
+            } else {
+                append(pos, pos + 1);
+                pos++;
+            }
+        }
+
+        if (copy) {
+            appendSlice();
+            return argument(buffer.toString());
+        }
+        if (sliceStart < 0) { // no argument left
+            sliceStart = pos;
+            sliceEnd = pos;
+        }
+        if (line instanceof Utf8CharSequence && !((Utf8CharSequence) line).isAscii(sliceStart, sliceEnd)) {
+            // decoded, so option names with non-ASCII characters are matched
+            return argument(line.subSequence(sliceStart, sliceEnd).toString());
+        }
+        setRange(sliceStart, sliceEnd);
+        return line;
+    }
+
+    private String argument(String _arg) {
+        setRange(0, _arg.length());
+        return _arg;
+    }
+
+    /**
+     * Reads a double quoted part, {@link #pos} is on the opening quote.
+     */
+    private void readDoubleQuoted() {
+        int close = indexOf('"', pos + 1);
+        int i = pos + 1;
+        // the closing quote found may be escaped, so search again after every escape
+        while (i < close) {
+            char c = line.charAt(i);
+            if (c == '\\' && isEscapable(line.charAt(i + 1))) {
+                int skip = lineContinuation(i);
+                if (skip == 0) {
+                    append(i + 1, i + 2);
+                    skip = 2;
+                }
+                i += skip;
+                if (i > close) {
+                    close = indexOf('"', i);
+                }
+            } else {
+                append(i, i + 1);
+                i++;
+            }
+        }
+        if (i == pos + 1) { // empty quotes still form an (empty) argument
+            append(i, i);
+        }
+        pos = close + 1;
+    }
+
+    /**
+     * Adds the given range of the line to the current argument.
+     * As long as all ranges are adjacent the argument remains a range of the line, otherwise it is copied.
+     *
+     * @param _from start (inclusive)
+     * @param _to end (exclusive)
+     */
+    private void append(int _from, int _to) {
+        if (sliceStart < 0) {
+            sliceStart = _from;
+            sliceEnd = _to;
+        } else if (_from == sliceEnd) {
+            sliceEnd = _to;
+        } else if (_from < _to) {
+            if (!copy) {
+                copy = true;
+                if (buffer == null) {
+                    buffer = new StringBuilder();
+                }
+                buffer.setLength(0);
+            }
+            appendSlice();
+            sliceStart = _from;
+            sliceEnd = _to;
+        }
+    }
+
+    /**
+     * Copies the current range of adjacent characters to the buffer.
+     * Ranges are copied as a whole, so a range of a {@link Utf8CharSequence} is decoded completely.
+     */
+    private void appendSlice() {
+        if (line instanceof Utf8CharSequence) {
+            ((Utf8CharSequence) line).appendTo(buffer, sliceStart, sliceEnd);
+        } else {
+            buffer.append(line, sliceStart, sliceEnd);
+        }
+    }
+
+    private int indexOf(char _quote, int _from) {
+        for (int i = _from; i < length; i++) {
+            if (line.charAt(i) == _quote) {
+                return i;
+            }
+        }
+        throw createException("Unterminated quote in command-line: " + line, exceptionType);
+    }
+
+    /**
+     * Returns the length of a line continuation (backslash followed by a line break) at the given index.
+     *
+     * @param _idx index of backslash
+     * @return length of line continuation, 0 if there is none
+     */
+    private int lineContinuation(int _idx) {
+        char c = line.charAt(_idx + 1);
+        if (c == '\r' && _idx + 2 < length && line.charAt(_idx + 2) == '\n') {
+            return 3;
+        }
+        return isLineBreak(c) ? 2 : 0;
+    }
+
+    private static boolean isEscapable(char _c) {
+        return _c == '$' || _c == '`' || _c == '"' || _c == '\\' || isLineBreak(_c);
+    }
+
+    private static boolean isLineBreak(char _c) {
+        return _c == '\n' || _c == '\r';
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(line);
+    }
+
+}
@@ -126,6 +126,37 @@ public final class StaticUtils {
         return _val;
     }
 
+    /**
+     * Creates a bitset large enough to hold the given number of bits.
+     *
+     * @param _bits number of bits
+     * @return long array with all bits cleared
+     */
+    static long[] createBitSet(int _bits) {
+        return new long[_bits + 63 >>> 6];
+    }
+
+    /**
+     * Sets the given bit.
+     *
+     * @param _bitSet bitset to modify
+     * @param _idx index of bit
+     */
+    static void setBit(long[] _bitSet, int _idx) {
+        _bitSet[_idx >>> 6] |= 1L << _idx;
+    }
+
+    /**
+     * Checks if the given bit is set.
+     *
+     * @param _bitSet bitset to check
+     * @param _idx index of bit
+     * @return true if bit is set
+     */
+    static boolean isBitSet(long[] _bitSet, int _idx) {
+        return (_bitSet[_idx >>> 6] & 1L << _idx) != 0;
+    }
+
     /**
      * Formats the given option for logging/exceptions.
      *
@@ -0,0 +1,135 @@
+package com.github.hypfvieh.cli.parser;
+
+/**
+ * Mutable holder for the classification of a single command-line token.
+ * <p>
+ * Filled by {@link Tokenizer#classify(CharSequence, int, int, Token)}.
+ * All positions are offsets into the classified characters, so classifying does not create any String.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+final class Token {
+
+    /** Token does not look like an option. */
+    static final int  PLAIN   = 0;
+    /** Token looks like a long option (e.g. --option). */
+    static final int  LONG    = 1;
+    /** Token looks like a short option (e.g. -o). */
+    static final int  SHORT   = 2;
+    /** Token looks like multiple combined short options (e.g. -abc). */
+    static final int  CLUSTER = 3;
+
+    private CharSequence chars;
+    private int          start;
+    private int          end;
+    private int          kind;
+    private int          nameStart;
+    private int          nameEnd;
+    private int          valueStart;
+
+    /**
+     * Sets the classification of the token.
+     *
+     * @param _chars characters of the token
+     * @param _start start of the token (inclusive)
+     * @param _end end of the token (exclusive)
+     * @param _kind kind of the token
+     * @param _nameStart start of the option name (inclusive)
+     * @param _nameEnd end of the option name (exclusive)
+     * @param _valueStart start of the value given with '=' or -1 if none
+     */
+    void set(CharSequence _chars, int _start, int _end, int _kind, int _nameStart, int _nameEnd, int _valueStart) {
+        chars = _chars;
+        start = _start;
+        end = _end;
+        kind = _kind;
+        nameStart = _nameStart;
+        nameEnd = _nameEnd;
+        valueStart = _valueStart;
+    }
+
+    /**
+     * Removes the classification, so the token no longer references any characters.
+     */
+    void clear() {
+        set(null, 0, 0, PLAIN, 0, 0, -1);
+    }
+
+    CharSequence getChars() {
+        return chars;
+    }
+
+    int getStart() {
+        return start;
+    }
+
+    int getEnd() {
+        return end;
+    }
+
+    int getKind() {
+        return kind;
+    }
+
+    int getNameStart() {
+        return nameStart;
+    }
+
+    int getNameEnd() {
+        return nameEnd;
+    }
+
+    /**
+     * True if the token has no characters (e.g. a blank argument).
+     *
+     * @return boolean
+     */
+    boolean isEmpty() {
+        return start >= end;
+    }
+
+    /**
+     * True if the token looks like any kind of option.
+     *
+     * @return boolean
+     */
+    boolean isLookingLikeOption() {
+        return kind != PLAIN;
+    }
+
+    /**
+     * True if a value was given using '=' (e.g. --option=value).
+     *
+     * @return boolean
+     */
+    boolean hasValue() {
+        return valueStart >= 0;
+    }
+
+    /**
+     * Returns the value given using '='.
+     * Creates a new String, so it should only be called if the value is retained.
+     *
+     * @return String or null if no value was given
+     */
+    String getValue() {
+        return valueStart < 0 ? null : chars.subSequence(valueStart, end).toString();
+    }
+
+    /**
+     * Returns the classified characters as String.
+     *
+     * @return String
+     */
+    String getText() {
+        return chars.subSequence(start, end).toString();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [kind=" + kind + ", text=" + (chars == null ? null : getText()) + ", name=" + nameStart + "-" + nameEnd
+            + ", valueStart=" + valueStart + "]";
+    }
+
+}
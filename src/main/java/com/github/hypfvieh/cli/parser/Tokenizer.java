@@ -0,0 +1,181 @@
+package com.github.hypfvieh.cli.parser;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Classifies command-line tokens as long option, short option, combined short options or plain value.
+ * <p>
+ * A token is read once from left to right: the configured prefixes are compared in place, then
+ * the characters are scanned for the first '=' which separates an option name from its value.<br>
+ * Option names are looked up using their position in the token, no substrings are created.<br>
+ * If abbreviations are enabled, a long option name which is not found is resolved as unique prefix of a long option name.
+ * If case is ignored, option names with more than one character are compared ignoring case.
+ * </p>
+ * <p>
+ * Instances are immutable and may be shared by multiple threads.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+final class Tokenizer {
+
+    private final String      longOptPrefix;
+    private final String      shortOptPrefix;
+    private final OptionTable optionTable;
+    private final OptionTrie  abbreviations;
+
+    Tokenizer(String _longOptPrefix, String _shortOptPrefix, CmdArgOption<?>[] _options) {
+        this(_longOptPrefix, _shortOptPrefix, _options, false, false);
+    }
+
+    /**
+     * Creates a new tokenizer.
+     *
+     * @param _longOptPrefix prefix of long options
+     * @param _shortOptPrefix prefix of short options
+     * @param _options options indexed by their ordinal
+     * @param _abbreviations true to resolve unique prefixes of long option names
+     * @param _ignoreCase true to ignore the case of option names with more than one character
+     */
+    Tokenizer(String _longOptPrefix, String _shortOptPrefix, CmdArgOption<?>[] _options, boolean _abbreviations, boolean _ignoreCase) {
+        longOptPrefix = Objects.requireNonNull(_longOptPrefix, "Long option prefix required");
+        shortOptPrefix = Objects.requireNonNull(_shortOptPrefix, "Short option prefix required");
+        optionTable = new OptionTable(_options, _ignoreCase);
+        abbreviations = _abbreviations ? new OptionTrie(_options, _ignoreCase) : null;
+    }
+
+    /**
+     * Classifies the given range of characters.
+     * <p>
+     * A long option starts with the long option prefix which is not followed by the first character of that prefix.
+     * A short option starts with the short option prefix which is not followed by the short option prefix again.
+     * Both must have at least one character after the prefix.
+     * A short option with more than one character in its name is read as combined short options.
+     * </p>
+     *
+     * @param _chars characters, null is classified as plain value
+     * @param _start start of the token (inclusive)
+     * @param _end end of the token (exclusive)
+     * @param _token token to store the classification in
+     *
+     * @return the classified token
+     */
+    Token classify(CharSequence _chars, int _start, int _end, Token _token) {
+        if (_chars == null) {
+            _token.set(null, 0, 0, Token.PLAIN, -1, -1, -1);
+            return _token;
+        }
+
+        int lpLen = longOptPrefix.length();
+        int spLen = shortOptPrefix.length();
+
+        if (_end - _start > lpLen && startsWith(_chars, _start, _end, longOptPrefix)
+            && _chars.charAt(_start + lpLen) != longOptPrefix.charAt(0)) {
+            return classifyName(_chars, _start, _end, _start + lpLen, Token.LONG, _token);
+        } else if (_end - _start > spLen && startsWith(_chars, _start, _end, shortOptPrefix)
+            && !startsWith(_chars, _start + spLen, _end, shortOptPrefix)) {
+            return classifyName(_chars, _start, _end, _start + spLen, Token.SHORT, _token);
+        }
+
+        _token.set(_chars, _start, _end, Token.PLAIN, -1, -1, -1);
+        return _token;
+    }
+
+    /**
+     * Looks up the option using the name of the given token.
+     * Long option names may be abbreviated if abbreviations are enabled.
+     *
+     * @param _token classified token
+     * @return ordinal of option, -1 if token is not an option or option is unknown
+     *      or {@link OptionTrie#AMBIGUOUS} if an abbreviated name matches more than one option
+     */
+    int lookup(Token _token) {
+        if (!_token.isLookingLikeOption()) {
+            return -1;
+        }
+        int ordinal = optionTable.get(_token.getChars(), _token.getNameStart(), _token.getNameEnd());
+        if (ordinal < 0 && abbreviations != null && _token.getKind() == Token.LONG) {
+            return abbreviations.get(_token.getChars(), _token.getNameStart(), _token.getNameEnd());
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns all options whose long name starts with the name of the given token.
+     *
+     * @param _token classified token
+     * @return ordinals of options, empty if abbreviations are disabled
+     */
+    List<Integer> getCandidates(Token _token) {
+        if (abbreviations == null) {
+            return List.of();
+        }
+        return abbreviations.getCandidates(_token.getChars(), _token.getNameStart(), _token.getNameEnd());
+    }
+
+    /**
+     * Looks up the option using the given single character of a token.
+     *
+     * @param _chars characters
+     * @param _idx index of the short option name
+     * @return ordinal of option or -1 if unknown
+     */
+    int lookup(CharSequence _chars, int _idx) {
+        return optionTable.get(_chars.charAt(_idx));
+    }
+
+    /**
+     * Looks up the option using the given name.
+     *
+     * @param _name name of option, maybe null
+     * @return ordinal of option or -1 if unknown
+     */
+    int lookup(String _name) {
+        return _name == null ? -1 : optionTable.get(_name, 0, _name.length());
+    }
+
+    /**
+     * Scans the characters after the option prefix for a value assigned using '='.
+     *
+     * @param _chars characters
+     * @param _start start of the token (inclusive)
+     * @param _end end of the token (exclusive)
+     * @param _nameStart index of the first character after the prefix
+     * @param _kind kind of option detected by prefix
+     * @param _token token to store the classification in
+     *
+     * @return the classified token
+     */
+    private static Token classifyName(CharSequence _chars, int _start, int _end, int _nameStart, int _kind, Token _token) {
+        int nameEnd = _end;
+        int valueStart = -1;
+        for (int i = _nameStart; i < _end; i++) {
+            if (_chars.charAt(i) == '=') {
+                // an empty value does not count as value, the '=' is then part of the name
+                if (i + 1 < _end) {
+                    nameEnd = i;
+                    valueStart = i + 1;
+                }
+                break;
+            }
+        }
+
+        int kind = _kind == Token.SHORT && nameEnd - _nameStart > 1 ? Token.CLUSTER : _kind;
+        _token.set(_chars, _start, _end, kind, _nameStart, nameEnd, valueStart);
+        return _token;
+    }
+
+    private static boolean startsWith(CharSequence _chars, int _start, int _end, String _prefix) {
+        if (_end - _start < _prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < _prefix.length(); i++) {
+            if (_chars.charAt(_start + i) != _prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.github.hypfvieh.cli.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Read-only view of the remaining bytes of a UTF-8 encoded {@link ByteBuffer} as characters.
+ * <p>
+ * Every byte is one character: ASCII bytes are returned as they are, all other bytes are returned
+ * as characters above {@code 0x7F}. As UTF-8 never uses ASCII bytes inside of multi-byte sequences,
+ * whitespace, quotes, prefixes and ASCII option names are found directly on the bytes.<br>
+ * {@link #subSequence(int, int)} and {@link #toString()} decode the bytes, so Strings are only created
+ * for ranges which are retained.
+ * </p>
+ * <p>
+ * The view reads the buffer using absolute positions, the position of the buffer is never changed.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+final class Utf8CharSequence implements CharSequence {
+    private ByteBuffer bytes;
+    private byte[]     array;
+    private int        offset;
+    private int        length;
+
+    /**
+     * Starts reading the remaining bytes of the given buffer, so a view can be reused for many buffers.
+     *
+     * @param _bytes buffer, null to read nothing
+     * @return this
+     */
+    Utf8CharSequence reset(ByteBuffer _bytes) {
+        bytes = _bytes;
+        length = _bytes == null ? 0 : _bytes.remaining();
+        // bytes of heap buffers are read from the array, which is cheaper than reading every byte using the buffer
+        if (_bytes != null && _bytes.hasArray()) {
+            array = _bytes.array();
+            offset = _bytes.arrayOffset() + _bytes.position();
+        } else {
+            array = null;
+            offset = _bytes == null ? 0 : _bytes.position();
+        }
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int _index) {
+        return (char) (byteAt(Objects.checkIndex(_index, length)) & 0xFF);
+    }
+
+    /**
+     * True if the given range only contains ASCII characters, so every character of the view is the decoded character.
+     *
+     * @param _start start index (inclusive)
+     * @param _end end index (exclusive)
+     * @return boolean
+     */
+    boolean isAscii(int _start, int _end) {
+        for (int i = _start; i < _end; i++) {
+            if (byteAt(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the decoded characters of the given range.
+     * The range must not split a multi-byte sequence, which is true for every range starting and ending at an ASCII character.
+     *
+     * @param _target builder to append to
+     * @param _start start index (inclusive)
+     * @param _end end index (exclusive)
+     */
+    void appendTo(StringBuilder _target, int _start, int _end) {
+        if (isAscii(_start, _end)) {
+            for (int i = _start; i < _end; i++) {
+                _target.append((char) byteAt(i));
+            }
+        } else {
+            _target.append(decode(_start, _end));
+        }
+    }
+
+    /**
+     * Decodes the given range.
+     *
+     * @param _start start index (inclusive)
+     * @param _end end index (exclusive)
+     * @return String, malformed bytes are replaced by {@code U+FFFD}
+     */
+    @Override
+    public String subSequence(int _start, int _end) {
+        Objects.checkFromToIndex(_start, _end, length);
+        return decode(_start, _end);
+    }
+
+    private byte byteAt(int _index) {
+        return array == null ? bytes.get(offset + _index) : array[offset + _index];
+    }
+
+    private String decode(int _start, int _end) {
+        if (array != null) {
+            return new String(array, offset + _start, _end - _start, StandardCharsets.UTF_8);
+        }
+        byte[] copy = new byte[_end - _start];
+        ByteBuffer range = bytes.duplicate();
+        range.position(offset + _start);
+        range.get(copy);
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return bytes == null ? "" : decode(0, length);
+    }
+
+}
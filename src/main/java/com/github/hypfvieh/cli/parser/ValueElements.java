@@ -0,0 +1,148 @@
+package com.github.hypfvieh.cli.parser;
+
+import java.util.List;
+
+/**
+ * Iterates over the elements of the values of an option.
+ * <p>
+ * If the option has a delimiter, every value is split at the delimiter, leading and trailing whitespace of
+ * every element is ignored and empty elements are skipped.<br>
+ * Without delimiter every non-empty value is one element.<br>
+ * Elements are ranges of the original value, so iterating does not create any String.
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+final class ValueElements {
+    private final List<String> values;
+    private final String       singleValue;
+    private final Character    delimiter;
+
+    private int                valueIdx;
+    private String             value;
+    private int                pos;
+    private int                start;
+    private int                end;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param _values values of a repeatable option, maybe null
+     * @param _singleValue value of a non-repeatable option, maybe null (ignored if values are given)
+     * @param _delimiter delimiter to split values, maybe null
+     */
+    ValueElements(List<String> _values, String _singleValue, Character _delimiter) {
+        values = _values;
+        singleValue = _singleValue;
+        delimiter = _delimiter;
+    }
+
+    /**
+     * Moves to the next element.
+     *
+     * @return true if an element was found, false if all elements were read
+     */
+    boolean next() {
+        for (;;) {
+            if ((value == null || pos > value.length()) && !nextValue()) {
+                return false;
+            }
+
+            int stop = delimiter == null ? -1 : value.indexOf(delimiter, pos);
+            if (stop < 0) {
+                stop = value.length();
+            }
+            start = pos;
+            end = stop;
+            pos = stop + 1;
+
+            if (delimiter != null) {
+                while (start < end && value.charAt(start) <= ' ') {
+                    start++;
+                }
+                while (end > start && value.charAt(end - 1) <= ' ') {
+                    end--;
+                }
+            }
+            if (start < end) {
+                return true;
+            }
+        }
+    }
+
+    private boolean nextValue() {
+        value = null;
+        if (values == null) {
+            if (valueIdx++ == 0) {
+                value = singleValue;
+            }
+        } else {
+            while (value == null && valueIdx < values.size()) {
+                value = values.get(valueIdx++);
+            }
+        }
+        pos = 0;
+        return value != null;
+    }
+
+    /**
+     * Counts all elements and starts over.
+     *
+     * @return number of elements
+     */
+    int count() {
+        int count = 0;
+        while (next()) {
+            count++;
+        }
+        reset();
+        return count;
+    }
+
+    /**
+     * Starts over with the first element.
+     */
+    void reset() {
+        valueIdx = 0;
+        value = null;
+        pos = 0;
+    }
+
+    /**
+     * Returns the value containing the current element.
+     *
+     * @return String
+     */
+    String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the index of the first character of the current element.
+     *
+     * @return index (inclusive)
+     */
+    int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the index after the last character of the current element.
+     *
+     * @return index (exclusive)
+     */
+    int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the current element as String.
+     *
+     * @return String
+     */
+    @Override
+    public String toString() {
+        return value.substring(start, end);
+    }
+
+}
@@ -15,7 +15,16 @@ import java.util.Locale;
  * @author Markus S.
  * @since 1.0.0 - 2022-05-05
  */
-public class DoubleConverter extends AbstractPatternBasedConverter<Double, NumberFormat> {
+public class DoubleConverter extends AbstractPatternBasedConverter<Double, NumberFormat> implements IDoubleValueConverter {
+
+    /** Powers of ten which are exactly representable as double. */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** Maximum number of digits which always fit in the 53 bit mantissa of a double. */
+    private static final int      MAX_EXACT_DIGITS = 15;
 
     /**
      * Default constructor for a double converter.
@@ -27,6 +36,11 @@ public class DoubleConverter extends AbstractPatternBasedConverter<Double, Numbe
 
     @Override
     public Double convert(String _string) {
+        return convertDouble(_string);
+    }
+
+    @Override
+    public double convertDouble(String _string) {
         try {
             return Double.parseDouble(_string);
         } catch (NumberFormatException _ex) {
@@ -35,7 +49,8 @@ public class DoubleConverter extends AbstractPatternBasedConverter<Double, Numbe
 
         for (NumberFormat nf : getPatterns()) {
             try {
-                return nf.parse(_string).doubleValue();
+                // NumberFormat is not thread-safe, converters are shared by all threads using a compiled command line
+                return ((NumberFormat) nf.clone()).parse(_string).doubleValue();
             } catch (ParseException _ex) {
                 getLogger().log(Level.TRACE, "Unable to parse number input ''{0}'' with parser ''{1}''", _string, nf);
             }
@@ -44,4 +59,44 @@ public class DoubleConverter extends AbstractPatternBasedConverter<Double, Numbe
         throw new CommandLineException("Unable to parse input '" + _string + "' as double");
     }
 
+    /**
+     * Converts plain decimals (e.g. -12.75) with up to 15 digits in place.<br>
+     * Digits and divisor are both exact doubles, so the single division is rounded exactly like
+     * {@link Double#parseDouble(String)} would round.<br>
+     * Everything else is converted using {@link #convertDouble(String)}.
+     */
+    @Override
+    public double convertDouble(CharSequence _chars, int _start, int _end) {
+        int idx = _start;
+        boolean negative = false;
+        if (idx < _end && (_chars.charAt(idx) == '-' || _chars.charAt(idx) == '+')) {
+            negative = _chars.charAt(idx) == '-';
+            idx++;
+        }
+
+        long digits = 0;
+        int digitCount = 0;
+        int fractionDigits = -1;
+        for (; idx < _end; idx++) {
+            char c = _chars.charAt(idx);
+            if (c >= '0' && c <= '9' && digitCount < MAX_EXACT_DIGITS) {
+                digits = digits * 10 + c - '0';
+                digitCount++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else { // too many digits, exponent, grouping or anything else
+                return convertDouble(_chars.subSequence(_start, _end).toString());
+            }
+        }
+
+        if (digitCount == 0) {
+            return convertDouble(_chars.subSequence(_start, _end).toString());
+        }
+        double value = fractionDigits > 0 ? digits / POWERS_OF_TEN[fractionDigits] : digits;
+        return negative ? -value : value;
+    }
+
 }
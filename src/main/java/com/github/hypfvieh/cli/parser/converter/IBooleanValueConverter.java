@@ -0,0 +1,22 @@
+package com.github.hypfvieh.cli.parser.converter;
+
+/**
+ * Converts a command line argument String to a primitive {@code boolean} without boxing.
+ * <p>
+ * Sample: {@code cmdLine.registerBooleanConverter(Boolean::parseBoolean);}
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+@FunctionalInterface
+public interface IBooleanValueConverter {
+    /**
+     * Called to convert command line argument String to {@code boolean}.
+     *
+     * @param _string input string, maybe empty/blank, never null
+     * @return converted value
+     *
+     * @throws RuntimeException (e.g. CommandLineException) when parsing fails
+     */
+    boolean convertBoolean(String _string);
+}
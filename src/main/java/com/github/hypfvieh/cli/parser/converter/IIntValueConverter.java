@@ -0,0 +1,40 @@
+package com.github.hypfvieh.cli.parser.converter;
+
+/**
+ * Converts a command line argument String to a primitive {@code int} without boxing.
+ * <p>
+ * Sample: {@code cmdLine.registerIntConverter(s -> Integer.parseInt(s, 16));}
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+@FunctionalInterface
+public interface IIntValueConverter {
+    /**
+     * Called to convert command line argument String to {@code int}.
+     *
+     * @param _string input string, maybe empty/blank, never null
+     * @return converted value
+     *
+     * @throws RuntimeException (e.g. CommandLineException) when parsing fails
+     */
+    int convertInt(String _string);
+
+    /**
+     * Called to convert a part of a command line argument (e.g. one element of a delimited list) to {@code int}.
+     * <p>
+     * The default implementation creates a String of the given range and calls {@link #convertInt(String)}.<br>
+     * Override to convert without creating a String for every element.
+     * </p>
+     *
+     * @param _chars input characters, never null
+     * @param _start index of first character (inclusive)
+     * @param _end index of last character (exclusive)
+     * @return converted value
+     *
+     * @throws RuntimeException (e.g. CommandLineException) when parsing fails
+     */
+    default int convertInt(CharSequence _chars, int _start, int _end) {
+        return convertInt(_chars.subSequence(_start, _end).toString());
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.hypfvieh.cli.parser.converter;
+
+/**
+ * Converts a command line argument String to a primitive {@code long} without boxing.
+ * <p>
+ * Sample: {@code cmdLine.registerLongConverter(Long::parseLong);}
+ * </p>
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+@FunctionalInterface
+public interface ILongValueConverter {
+    /**
+     * Called to convert command line argument String to {@code long}.
+     *
+     * @param _string input string, maybe empty/blank, never null
+     * @return converted value
+     *
+     * @throws RuntimeException (e.g. CommandLineException) when parsing fails
+     */
+    long convertLong(String _string);
+
+    /**
+     * Called to convert a part of a command line argument (e.g. one element of a delimited list) to {@code long}.
+     * <p>
+     * The default implementation creates a String of the given range and calls {@link #convertLong(String)}.<br>
+     * Override to convert without creating a String for every element.
+     * </p>
+     *
+     * @param _chars input characters, never null
+     * @param _start index of first character (inclusive)
+     * @param _end index of last character (exclusive)
+     * @return converted value
+     *
+     * @throws RuntimeException (e.g. CommandLineException) when parsing fails
+     */
+    default long convertLong(CharSequence _chars, int _start, int _end) {
+        return convertLong(_chars.subSequence(_start, _end).toString());
+    }
+}
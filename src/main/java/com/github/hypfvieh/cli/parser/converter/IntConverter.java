@@ -0,0 +1,21 @@
+package com.github.hypfvieh.cli.parser.converter;
+
+/**
+ * Converts a string to a primitive {@code int} using {@link Integer#parseInt(String)}.<br>
+ * Parts of a string are converted in place without creating a String.
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public class IntConverter implements IIntValueConverter {
+
+    @Override
+    public int convertInt(String _string) {
+        return Integer.parseInt(_string);
+    }
+
+    @Override
+    public int convertInt(CharSequence _chars, int _start, int _end) {
+        return Integer.parseInt(_chars, _start, _end, 10);
+    }
+
+}
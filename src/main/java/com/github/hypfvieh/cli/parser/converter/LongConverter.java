@@ -0,0 +1,21 @@
+package com.github.hypfvieh.cli.parser.converter;
+
+/**
+ * Converts a string to a primitive {@code long} using {@link Long#parseLong(String)}.<br>
+ * Parts of a string are converted in place without creating a String.
+ *
+ * @since 1.1.2 - 2026-10-17
+ */
+public class LongConverter implements ILongValueConverter {
+
+    @Override
+    public long convertLong(String _string) {
+        return Long.parseLong(_string);
+    }
+
+    @Override
+    public long convertLong(CharSequence _chars, int _start, int _end) {
+        return Long.parseLong(_chars, _start, _end, 10);
+    }
+
+}
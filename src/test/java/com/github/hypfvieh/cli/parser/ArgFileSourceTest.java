@@ -0,0 +1,152 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ArgFileSourceTest extends AbstractBaseTest {
+
+    private static final CmdArgOption<Integer> OPT_INT    = CmdArgOption.builder(int.class)
+        .name("num")
+        .shortName('n')
+        .required()
+        .build();
+
+    private static final CmdArgOption<String>  OPT_DEFINE = CmdArgOption.builder(String.class)
+        .shortName('D')
+        .repeatable()
+        .optional()
+        .build();
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void readQuotedAndCommentedFile() throws IOException {
+        Path file = write("args", "# comment line\n"
+            + "-n 5   # trailing comment\n"
+            + "plain 'single quoted \\n' \"double \\\"quoted\\\"\" \t\n"
+            + "esc\\ aped con\\\ntinued a#b '' \"\"\n");
+
+        assertEquals(List.of("before", "-n", "5", "plain", "single quoted \\n", "double \"quoted\"", "esc aped", "continued", "a#b", "", "", "after"),
+            read(StandardCharsets.UTF_8, 8, "before", "@" + file, "after"));
+    }
+
+    @Test
+    void readNestedFiles() throws IOException {
+        Path inner = write("inner", "x y");
+        Path outer = write("outer", "a @" + inner + " b @@literal");
+
+        assertEquals(List.of("a", "x", "y", "b", "@literal", "c"), read(StandardCharsets.UTF_8, 2, "@" + outer, "c"));
+        assertThrows(CommandLineException.class, () -> read(StandardCharsets.UTF_8, 1, "@" + outer));
+
+        Path self = tempDir.resolve("self");
+        Files.writeString(self, "@" + self);
+        CommandLineException ex = assertThrows(CommandLineException.class, () -> read(StandardCharsets.UTF_8, 8, "@" + self));
+        assertTrue(ex.getMessage().contains("nesting depth of 8"), ex.getMessage());
+    }
+
+    @Test
+    void readEmptyAndInvalidFiles() throws IOException {
+        Path empty = write("empty", "  \n# only a comment");
+        assertEquals(List.of("a", "b"), read(StandardCharsets.UTF_8, 8, "a", "@" + empty, "@" + empty, "b"));
+        assertEquals(List.of("@"), read(StandardCharsets.UTF_8, 8, "@"));
+
+        Path unterminated = write("unterminated", "ok 'open");
+        assertThrows(CommandLineException.class, () -> read(StandardCharsets.UTF_8, 8, "@" + unterminated));
+
+        CommandLineException ex = assertThrows(CommandLineException.class, () -> read(StandardCharsets.UTF_8, 8, "@" + tempDir.resolve("missing")));
+        assertTrue(ex.getMessage().startsWith("Cannot read argument file"), ex.getMessage());
+        assertNotNull(ex.getCause());
+    }
+
+    @Test
+    void readCharset() throws IOException {
+        Path file = tempDir.resolve("latin1");
+        Files.writeString(file, "grüße", StandardCharsets.ISO_8859_1);
+
+        assertEquals(List.of("grüße"), read(StandardCharsets.ISO_8859_1, 8, "@" + file));
+    }
+
+    @Test
+    void parseWithArgFile() throws IOException {
+        Path file = write("args", "-n 42\n-D 'a b'\n-D c");
+        CommandLine cmdLine = new CommandLine().addOptions(OPT_INT, OPT_DEFINE);
+
+        // disabled by default
+        assertThrows(CommandLineException.class, () -> cmdLine.parse(new String[] {"@" + file}));
+
+        cmdLine.withArgFileExpansion(true).parse(new String[] {"@" + file, "-D", "d"});
+        assertEquals(42, cmdLine.getInt(OPT_INT));
+        assertEquals(List.of("a b", "c", "d"), cmdLine.getArgs(OPT_DEFINE));
+    }
+
+    @Test
+    void argFilesOnlyExpandedForSeparateArguments() throws IOException {
+        Path file = write("secret", "-n 42");
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(OPT_INT)
+            .withArgFileExpansion(true)
+            .withFailOnUnknownToken(false)
+            .compile();
+        String line = "-n 1 '@" + file + "'";
+        List<String> tokens = List.of("@" + file);
+
+        assertEquals(tokens, parser.parse(line).getUnknownTokens());
+        assertEquals(tokens, parser.parse(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8))).getUnknownTokens());
+
+        CommandSession session = parser.createSession();
+        assertTrue(session.parseLine(line));
+        assertEquals(tokens, session.getResult().getUnknownTokens());
+
+        List<String> streamed = new ArrayList<>();
+        assertEquals(1, parser.parseStream(new StringReader("-n\n1\n@" + file), streamed::add).getInt(OPT_INT));
+        assertEquals(tokens, streamed);
+
+        assertEquals(42, parser.parse(new String[] {"@" + file}).getInt(OPT_INT));
+        assertEquals(42, parser.parseStream(List.of("@" + file).iterator(), streamed::add).getInt(OPT_INT));
+    }
+
+    @Test
+    void streamLargeArgFile() throws IOException {
+        Path file = tempDir.resolve("large");
+        int count = 200_000;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("--num 1\n");
+            for (int i = 0; i < count; i++) {
+                writer.write("'./some dir/file" + i + ".txt'\n");
+            }
+        }
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT).withArgFileExpansion(true).compile();
+        AtomicInteger tokens = new AtomicInteger();
+
+        ParseResult result = parser.parseStream(List.of("@" + file).iterator(), t -> tokens.incrementAndGet());
+        assertEquals(1, result.getInt(OPT_INT));
+        assertEquals(count, tokens.get());
+    }
+
+    private Path write(String _name, String _content) throws IOException {
+        return Files.writeString(tempDir.resolve(_name), _content);
+    }
+
+    private static List<String> read(Charset _charset, int _maxDepth, String... _args) {
+        ArgumentSource source = new ArgFileSource(new ArgumentSource.ArraySource(_args), _charset, _maxDepth, CommandLineException.class);
+        List<String> result = new ArrayList<>();
+        while (source.hasNext()) {
+            result.add(source.next());
+        }
+        return result;
+    }
+
+}
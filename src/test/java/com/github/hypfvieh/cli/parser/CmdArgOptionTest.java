@@ -7,6 +7,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 class CmdArgOptionTest extends AbstractBaseTest {
 
@@ -87,6 +88,39 @@ class CmdArgOptionTest extends AbstractBaseTest {
             opt.toString());
     }
 
+    @Test
+    void equalsAndHashCode() {
+        Map<String, String> possVals = new LinkedHashMap<>();
+        possVals.put("abc", "Alphabet abc");
+
+        CmdArgOption<String> opt1 = CmdArgOption.builder(String.class).name("opt").shortName('o').possibleValue(possVals).build();
+        CmdArgOption<String> opt2 = CmdArgOption.builder(String.class).name("opt").shortName('o').possibleValue(Map.of("abc", "Alphabet abc")).build();
+        CmdArgOption<String> opt3 = CmdArgOption.builder(String.class).name("opt").shortName('o').possibleValue(Map.of("def", "Alphabet def")).build();
+
+        assertEquals(opt1, opt1);
+        assertEquals(opt1, opt2);
+        assertEquals(opt1.hashCode(), opt2.hashCode());
+        assertNotEquals(opt1, opt3);
+        assertNotEquals(opt1, null);
+
+        // changing the map afterwards must not change the option
+        int hash = opt1.hashCode();
+        possVals.put("def", "Alphabet def");
+        assertEquals(hash, opt1.hashCode());
+        assertNull(opt1.getPossibleValues().get("def"));
+        assertThrows(UnsupportedOperationException.class, () -> opt1.getPossibleValues().put("x", "y"));
+    }
+
+    @Test
+    void buildOptionWithCaseInsensitiveAllowedValues() {
+        Map<String, String> possVals = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        possVals.put("abc", "Alphabet abc");
+
+        CmdArgOption<String> opt = CmdArgOption.builder(String.class).name("opt").possibleValue(possVals).build();
+
+        assertTrue(opt.getPossibleValues().containsKey("ABC"));
+    }
+
     @Test
     void buildOptionWithAllowedValuesInvalidDefault() {
         Map<String, String> possVals = new LinkedHashMap<>();
@@ -124,6 +158,37 @@ class CmdArgOptionTest extends AbstractBaseTest {
         assertEquals("CmdArgOption[optionWithoutValue/-, dataType=null, required=false, repeatable=false, hasValue=false, default=null, descr=null, possVals={}]", opt.toString());
     }
 
+    @Test
+    void buildCounterOption() {
+        CmdArgOption<?> opt = CmdArgOption.builder()
+            .shortName('v')
+            .counter()
+            .build();
+
+        assertTrue(opt.isCounter());
+        assertTrue(opt.isRepeatable());
+        assertFalse(opt.hasValue());
+        assertNotEquals(opt, CmdArgOption.builder().shortName('v').repeatable().build());
+
+        assertEquals("Counter option cannot have a value", assertThrows(CommandLineException.class,
+            () -> CmdArgOption.builder(String.class).name("count").counter().build()).getMessage());
+    }
+
+    @Test
+    void buildDelimitedOption() {
+        CmdArgOption<Integer> opt = CmdArgOption.builder(int.class)
+            .name("ports")
+            .delimiter(',')
+            .build();
+
+        assertEquals(',', opt.getDelimiter());
+        assertNull(CmdArgOption.builder(int.class).name("ports").build().getDelimiter());
+        assertNotEquals(opt, CmdArgOption.builder(int.class).name("ports").build());
+
+        assertEquals("Option without value cannot have a delimiter", assertThrows(CommandLineException.class,
+            () -> CmdArgOption.builder().name("flag").delimiter(',').build()).getMessage());
+    }
+
     @ParameterizedTest(name = "[{index}] \"{0}\"")
     @NullAndEmptySource
     @ValueSource(strings = {" ", "\t"})
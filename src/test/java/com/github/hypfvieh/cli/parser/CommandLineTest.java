@@ -15,6 +15,7 @@ import java.time.LocalTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class CommandLineTest extends AbstractBaseTest {
 
@@ -584,6 +585,23 @@ class CommandLineTest extends AbstractBaseTest {
         assertEquals("---f", cl.getUnknownTokens().get(0));
     }
 
+    @Test
+    @SuppressWarnings("removal")
+    public void deprecatedOptPatterns() {
+        CommandLine cl = new CommandLine()
+            .withLongOptPrefix("++")
+            .withShortOptPrefix("+");
+
+        assertTrue(cl.getLongOptPattern().matcher("++name=value").matches());
+        assertFalse(cl.getLongOptPattern().matcher("+++name").matches());
+        assertTrue(cl.getShortOptPattern().matcher("+n").matches());
+        assertFalse(cl.getShortOptPattern().matcher("++n").matches());
+        assertSame(cl.getLongOptPattern(), cl.getLongOptPattern());
+
+        cl.withLongOptPrefix("//");
+        assertTrue(cl.getLongOptPattern().matcher("//name").matches());
+    }
+
     @Test
     public void parseUnknownShortArg() {
         CommandLine cl = new CommandLine()
@@ -695,6 +713,90 @@ class CommandLineTest extends AbstractBaseTest {
         assertEquals(10, cl.parse("-oooooooooo").getArgCount(optInt));
     }
 
+    @Test
+    public void parseCounterOption() {
+        CmdArgOption<?> optVerbose = CmdArgOption.builder()
+            .shortName('v')
+            .name("verbose")
+            .counter()
+            .build();
+
+        CmdArgOption<?> optFlag = CmdArgOption.builder()
+            .shortName('f')
+            .build();
+
+        CommandLine cl = new CommandLine()
+            .addOptions(optVerbose, optFlag);
+
+        assertEquals(0, cl.parse("").getCount(optVerbose));
+        assertEquals(3, cl.parse("-vvv").getCount(optVerbose));
+        assertEquals(5, cl.parse("-vv -f --verbose -v -v").getCount(optVerbose));
+        assertEquals(5, cl.getArgCount(optVerbose));
+        assertTrue(cl.hasArg(optVerbose));
+        assertNull(cl.getArgs(optVerbose));
+        assertTrue(cl.hasArg(optFlag));
+        assertEquals(2, cl.parse("-vfv").getCount(optVerbose));
+
+        assertThrows(CommandLineException.class, () -> cl.getCount(optFlag));
+    }
+
+    @Test
+    public void parseCounterOptionFollowedByToken() {
+        CmdArgOption<?> optVerbose = CmdArgOption.builder()
+            .shortName('v')
+            .name("verbose")
+            .counter()
+            .build();
+
+        CommandLine cl = new CommandLine()
+            .addOptions(optVerbose)
+            .withFailOnUnknownToken(false);
+
+        cl.parse("-v file.txt");
+        assertEquals(1, cl.getCount(optVerbose));
+        assertEquals(List.of("file.txt"), cl.getUnknownTokens());
+
+        cl.parse("-vvv file.txt");
+        assertEquals(3, cl.getCount(optVerbose));
+        assertEquals(List.of("file.txt"), cl.getUnknownTokens());
+
+        cl.parse("--verbose file.txt -v");
+        assertEquals(2, cl.getCount(optVerbose));
+        assertEquals(List.of("file.txt"), cl.getUnknownTokens());
+
+        CommandLine strict = new CommandLine().addOptions(optVerbose);
+        assertTrue(assertThrows(CommandLineException.class, () -> strict.parse("-v file.txt")).getMessage().contains("unknown tokens: file.txt"));
+    }
+
+    @Test
+    public void parseFlagsFollowedByOption() {
+        CmdArgOption<?> optA = CmdArgOption.builder()
+            .shortName('a')
+            .build();
+
+        CmdArgOption<?> optB = CmdArgOption.builder()
+            .shortName('b')
+            .build();
+
+        CmdArgOption<?> optRepeat = CmdArgOption.builder()
+            .shortName('r')
+            .repeatable()
+            .build();
+
+        CommandLine cl = new CommandLine()
+            .addOptions(optA, optB, optRepeat)
+            .withFailOnDupArg(false)
+            .parse("-ab -r -r -a");
+
+        assertTrue(cl.hasArg(optB));
+        assertEquals(2, cl.getArgCount(optRepeat));
+        assertEquals(Set.of(optA), cl.getDupArgs().keySet());
+
+        cl.parse("-ab -r");
+        assertTrue(cl.getDupArgs().isEmpty());
+        assertEquals(1, cl.getArgCount(optRepeat));
+    }
+
     @Test
     public void testHasArg() {
         CmdArgOption<?> optInt = CmdArgOption.builder()
@@ -1158,4 +1260,200 @@ class CommandLineTest extends AbstractBaseTest {
 
         assertNull(commandLine.getArg("something", String.class));
     }
+
+    @Test
+    public void getDelimitedPrimitiveArrays() {
+        CmdArgOption<Integer> optPorts = CmdArgOption.builder(int.class).name("ports").delimiter(',').optional().build();
+        CmdArgOption<Long> optShard = CmdArgOption.builder(long.class).name("shard").repeatable().optional().build();
+        CmdArgOption<Double> optWeights = CmdArgOption.builder(double.class).name("weights").delimiter(';').repeatable().optional().build();
+        CmdArgOption<String> optNames = CmdArgOption.builder(String.class).name("names").delimiter(',').optional().build();
+        CmdArgOption<Integer> optDefault = CmdArgOption.builder(int.class).name("default").delimiter(',').defaultValue(9).optional().build();
+
+        CommandLine cl = new CommandLine()
+            .addOptions(optPorts, optShard, optWeights, optNames, optDefault)
+            .parse(new String[] {"--ports", "8080, 8081,,8082", "--shard", "1", "--shard", "2", "--weights", "0.5;1", "--weights", "-2.25",
+                "--names", "a,b"});
+
+        assertArrayEquals(new int[] {8080, 8081, 8082}, cl.getIntArray(optPorts));
+        assertArrayEquals(new long[] {8080, 8081, 8082}, cl.getLongArray(optPorts));
+        assertEquals(8080, cl.getInt(optPorts));
+        assertEquals(List.of(8080, 8081, 8082), cl.getArgs(optPorts));
+        assertArrayEquals(new long[] {1, 2}, cl.getLongArray(optShard));
+        assertArrayEquals(new double[] {0.5, 1, -2.25}, cl.getDoubleArray(optWeights));
+        assertEquals(List.of("a", "b"), cl.getArgs(optNames));
+        assertArrayEquals(new int[] {9}, cl.getIntArray(optDefault));
+
+        assertEquals("Option --names is not of type int",
+            assertThrows(CommandLineException.class, () -> cl.getIntArray(optNames)).getMessage());
+
+        assertEquals(0, new CommandLine().addOptions(optPorts).parse(new String[0]).getIntArray(optPorts).length);
+
+        assertThrows(CommandLineException.class, () -> new CommandLine().addOptions(optPorts).parse(new String[] {"--ports", "1,x,3"}));
+    }
+
+    @Test
+    public void getPrimitiveArgs() {
+        CmdArgOption<Integer> optInt = CmdArgOption.builder(int.class).name("int").optional().build();
+        CmdArgOption<Long> optLong = CmdArgOption.builder(Long.class).name("long").optional().defaultValue(5L).build();
+        CmdArgOption<Double> optDouble = CmdArgOption.builder(double.class).name("double").optional().build();
+        CmdArgOption<Float> optFloat = CmdArgOption.builder(float.class).name("float").optional().build();
+        CmdArgOption<Boolean> optBool = CmdArgOption.builder(boolean.class).name("bool").optional().build();
+        CmdArgOption<Integer> optRepeat = CmdArgOption.builder(int.class).name("repeat").shortName('r').repeatable().optional().build();
+        CmdArgOption<Void> optFlag = CmdArgOption.builder().name("flag").shortName('f').optional().build();
+        CmdArgOption<String> optString = CmdArgOption.builder(String.class).name("str").optional().build();
+
+        CommandLine cl = new CommandLine()
+            .addOptions(optInt, optLong, optDouble, optFloat, optBool, optRepeat, optFlag, optString)
+            .parse("--int 42 --double 1.5 --float 0.1 --bool YES -r 7 -r 8 -f");
+
+        assertEquals(42, cl.getInt(optInt));
+        assertEquals(42L, cl.getLong(optInt));
+        assertEquals(42d, cl.getDouble(optInt));
+        assertEquals(5L, cl.getLong(optLong));
+        assertEquals(6L, cl.getLong(optLong, 6L));
+        assertEquals(1.5d, cl.getDouble(optDouble));
+        assertEquals(cl.getArg(optFloat).doubleValue(), cl.getDouble(optFloat));
+        assertTrue(cl.getBoolean(optBool));
+        assertEquals(7, cl.getInt(optRepeat));
+        assertTrue(cl.getBoolean(optFlag));
+
+        assertEquals("Option --str is not of type int",
+            assertThrows(CommandLineException.class, () -> cl.getInt(optString)).getMessage());
+        assertEquals("Option --long is not of type int",
+            assertThrows(CommandLineException.class, () -> cl.getInt(optLong)).getMessage());
+
+        CommandLine empty = new CommandLine()
+            .addOptions(optInt, optBool, optFlag)
+            .parse(new String[0]);
+
+        assertEquals(3, empty.getInt(optInt, 3));
+        assertFalse(empty.getBoolean(optBool, false));
+        assertFalse(empty.getBoolean(optFlag));
+        assertEquals("Option --int not set",
+            assertThrows(CommandLineException.class, () -> empty.getInt(optInt)).getMessage());
+    }
+
+    @Test
+    public void getPrimitiveArgsWithCustomConverter() {
+        CmdArgOption<Integer> optInt = CmdArgOption.builder(int.class).name("int").optional().build();
+
+        CommandLine cl = new CommandLine()
+            .registerConverter(int.class, s -> Integer.parseInt(s, 16))
+            .addOption(optInt)
+            .parse("--int 10");
+
+        assertEquals(16, cl.getInt(optInt));
+    }
+
+    @Test
+    public void registerPrimitiveConverters() {
+        CmdArgOption<Integer> optInt = CmdArgOption.builder(int.class).name("int").optional().build();
+        CmdArgOption<Long> optLong = CmdArgOption.builder(Long.class).name("long").optional().build();
+        CmdArgOption<Double> optDouble = CmdArgOption.builder(double.class).name("double").optional().build();
+        CmdArgOption<Boolean> optBool = CmdArgOption.builder(Boolean.class).name("bool").optional().build();
+
+        CommandLine cl = new CommandLine()
+            .registerIntConverter(s -> Integer.parseInt(s, 16))
+            .registerLongConverter(s -> Long.parseLong(s, 8))
+            .registerDoubleConverter(s -> Double.parseDouble(s) * 2)
+            .registerBooleanConverter("on"::equals)
+            .addOptions(optInt, optLong, optDouble, optBool)
+            .parse("--int ff --long 17 --double 1.5 --bool on");
+
+        assertEquals(255, cl.getInt(optInt));
+        assertEquals(255, cl.getArg(optInt));
+        assertEquals(15L, cl.getLong(optLong));
+        assertEquals(15L, cl.getArg(optLong));
+        assertEquals(3d, cl.getDouble(optDouble));
+        assertEquals(3d, cl.getArg(optDouble));
+        assertTrue(cl.getBoolean(optBool));
+        assertTrue(cl.getArg(optBool));
+    }
+
+    @Test
+    void parseQuotedString() {
+        CmdArgOption<String> optName = CmdArgOption.builder(String.class).name("name").required().build();
+        CmdArgOption<String> optDefine = CmdArgOption.builder(String.class).shortName('D').repeatable().optional().build();
+
+        CommandLine cl = new CommandLine()
+            .addOptions(optName, optDefine)
+            .parse("--name  \"John Doe\"\t-D 'a=b c' -D x\\ y");
+
+        assertEquals("John Doe", cl.getArg(optName));
+        assertEquals(List.of("a=b c", "x y"), cl.getArgs(optDefine));
+    }
+
+    @Test
+    void parseAbbreviatedLongOptions() {
+        CmdArgOption<Void> optVerbose = CmdArgOption.builder().name("verbose").optional().build();
+        CmdArgOption<Void> optVersion = CmdArgOption.builder().name("version").optional().build();
+        CmdArgOption<String> optVerb = CmdArgOption.builder(String.class).name("verb").optional().build();
+
+        CommandLine cl = new CommandLine()
+            .addOptions(optVerbose, optVersion, optVerb)
+            .withLongOptAbbreviation(true)
+            .parse(new String[] {"--verbo", "--vers", "--verb=run"});
+
+        assertTrue(cl.hasArg(optVerbose));
+        assertTrue(cl.hasArg(optVersion));
+        assertEquals("run", cl.getArg(optVerb), "exact name is preferred over abbreviation");
+
+        CommandLineException ex = assertThrows(CommandLineException.class, () -> new CommandLine()
+            .addOptions(optVerbose, optVersion, optVerb)
+            .withLongOptAbbreviation(true)
+            .parse(new String[] {"--ver"}));
+        assertEquals("Option --ver is ambiguous, possible options: --verb, --verbose, --version", ex.getMessage());
+
+        assertThrows(CommandLineException.class, () -> new CommandLine()
+            .addOptions(optVerbose, optVersion)
+            .parse(new String[] {"--verbo"}), "abbreviations are disabled by default");
+
+        CommandLine single = new CommandLine()
+            .addOptions(optVerb)
+            .withLongOptAbbreviation(true)
+            .withFailOnUnknownArg(false);
+        single.parse(new String[] {"--=x"});
+        assertFalse(single.hasArg(optVerb), "empty name is no abbreviation");
+        assertTrue(single.getUnknownArgs().containsKey("--=x"));
+
+        assertDoesNotThrow(() -> new CommandLine()
+            .addOptions(optVerbose, optVersion, optVerb)
+            .withLongOptAbbreviation(true)
+            .withFailOnUnknownArg(false)
+            .parse(new String[] {"--=x"}), "empty name is not ambiguous");
+    }
+
+    @Test
+    void parseIgnoringOptionCase() {
+        CmdArgOption<String> optLogLevel = CmdArgOption.builder(String.class).name("LogLevel").shortName('l').optional().build();
+        CmdArgOption<Void> optVerbose = CmdArgOption.builder().name("verbose").shortName('v').optional().build();
+        CmdArgOption<Void> optVersion = CmdArgOption.builder().name("version").shortName('V').optional().build();
+
+        CommandLine cl = new CommandLine()
+            .addOptions(optLogLevel, optVerbose, optVersion)
+            .withIgnoreOptionCase(true)
+            .parse(new String[] {"--LOGLEVEL=debug", "--Verbose", "-V"});
+
+        assertEquals("debug", cl.getArg(optLogLevel));
+        assertTrue(cl.hasArg(optVerbose));
+        assertTrue(cl.hasArg(optVersion), "short options remain case-sensitive");
+
+        assertEquals("info", new CommandLine()
+            .addOptions(optLogLevel, optVerbose, optVersion)
+            .withIgnoreOptionCase(true)
+            .withLongOptAbbreviation(true)
+            .parse(new String[] {"--logl", "info"})
+            .getArg(optLogLevel));
+
+        assertThrows(CommandLineException.class, () -> new CommandLine()
+            .addOptions(optLogLevel)
+            .parse(new String[] {"--loglevel", "info"}), "case is respected by default");
+
+        CommandLineException ex = assertThrows(CommandLineException.class, () -> new CommandLine()
+            .addOptions(optLogLevel, CmdArgOption.builder().name("loglevel").optional().build())
+            .withIgnoreOptionCase(true)
+            .compile());
+        assertEquals("Command-line option '--loglevel' already defined (case is ignored)", ex.getMessage());
+    }
+
 }
@@ -0,0 +1,114 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+class CommandSessionTest extends AbstractBaseTest {
+
+    private static final CmdArgOption<Integer> OPT_INT  = CmdArgOption.builder(int.class)
+        .name("num")
+        .shortName('n')
+        .required()
+        .build();
+
+    private static final CmdArgOption<String>  OPT_NAME = CmdArgOption.builder(String.class)
+        .name("name")
+        .optional()
+        .build();
+
+    @Test
+    void parseLine() {
+        CommandSession session = new CommandLine()
+            .addOptions(OPT_INT, OPT_NAME)
+            .withExceptionType(IllegalStateException.class)
+            .compile()
+            .createSession();
+
+        assertTrue(session.parseLine("-n 1 --name 'a b'"));
+        assertNull(session.getFailure());
+        ParseResult result = session.getResult();
+        assertEquals(1, result.getInt(OPT_INT));
+        assertEquals("a b", result.getArg(OPT_NAME));
+
+        assertFalse(session.parseLine("--name x"));
+        assertEquals("Parsing of command-line failed: required options missing: num", session.getFailure());
+
+        assertFalse(session.parseLine("-n 'open"));
+        assertTrue(session.getFailure().startsWith("Unterminated quote"), session.getFailure());
+
+        assertTrue(session.parseLine("-n 2"));
+        assertSame(result, session.getResult(), "result is reused");
+        assertEquals(2, result.getInt(OPT_INT));
+        assertFalse(result.hasArg(OPT_NAME));
+    }
+
+    @Test
+    void runScript() {
+        CommandSession session = new CommandLine().addOptions(OPT_INT, OPT_NAME).compile().createSession();
+        String script = "# comment\n"
+            + "-n 1 --name first\r\n"
+            + "\n"
+            + "   \n"
+            + "--name missing-num\n"
+            + "-n 2 \\\n"
+            + "  --name \"continued line\"\n"
+            + "  # indented comment\n"
+            + "-n 3\n"
+            + "--name \\\n"
+            + "    indented \\\n"
+            + "    -n \\\n"
+            + "    4";
+
+        List<String> commands = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        long failures = session.run(new StringReader(script), new ICommandHandler() {
+            @Override
+            public void onCommand(long _lineNumber, ParseResult _result) {
+                commands.add(_lineNumber + ":" + _result.getInt(OPT_INT) + ":" + _result.getArg(OPT_NAME));
+            }
+
+            @Override
+            public void onError(long _lineNumber, String _line, String _failure) {
+                errors.add(_lineNumber + ":" + _line);
+            }
+        });
+
+        assertEquals(1, failures);
+        assertEquals(List.of("2:1:first", "6:2:continued line", "9:3:null", "10:4:indented"), commands);
+        assertEquals(List.of("5:--name missing-num"), errors);
+    }
+
+    @Test
+    void runLongLinesInSmallChunks() {
+        CommandSession session = new CommandLine().addOptions(OPT_INT, OPT_NAME).compile().createSession();
+        String longName = "x".repeat(20_000);
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            script.append("-n ").append(i).append(" --name ").append(i % 100 == 0 ? longName : "n" + i).append('\n');
+        }
+
+        // reader returning only a few chars per read
+        Reader reader = new StringReader(script.toString()) {
+            @Override
+            public int read(char[] _buf, int _off, int _len) throws java.io.IOException {
+                return super.read(_buf, _off, Math.min(_len, 7));
+            }
+        };
+
+        List<String> names = new ArrayList<>();
+        long failures = session.run(reader, (line, result) -> {
+            assertEquals(line - 1, result.getInt(OPT_INT));
+            names.add(result.getArg(OPT_NAME));
+        });
+
+        assertEquals(0, failures);
+        assertEquals(1000, names.size());
+        assertEquals(longName, names.get(500));
+        assertEquals("n999", names.get(999));
+    }
+
+}
@@ -0,0 +1,532 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class CompiledCommandLineTest extends AbstractBaseTest {
+
+    private static final CmdArgOption<Integer> OPT_INT  = CmdArgOption.builder(int.class)
+        .name("num")
+        .shortName('n')
+        .required()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_FLAG = CmdArgOption.builder()
+        .name("flag")
+        .shortName('f')
+        .optional()
+        .build();
+
+    @Test
+    void parseReturnsNewResult() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+
+        ParseResult first = parser.parse(new String[] {"-n", "1", "-f"});
+        ParseResult second = parser.parse(new String[] {"--num", "2"});
+
+        assertNotSame(first, second);
+        assertEquals(1, first.getArg(OPT_INT));
+        assertTrue(first.hasArg(OPT_FLAG));
+        assertEquals(2, second.getArg(OPT_INT));
+        assertFalse(second.hasArg(OPT_FLAG));
+    }
+
+    @Test
+    void parseFailureUsesExceptionType() {
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(OPT_INT)
+            .withExceptionType(IllegalStateException.class)
+            .compile();
+
+        assertEquals("Parsing of command-line failed: required options missing: num",
+            assertThrows(IllegalStateException.class, () -> parser.parse(new String[0])).getMessage());
+    }
+
+    @Test
+    void compileIsCachedUntilChanged() {
+        CommandLine cl = new CommandLine().addOption(OPT_INT);
+        CompiledCommandLine parser = cl.compile();
+
+        assertSame(parser, cl.compile());
+
+        cl.addOption(OPT_FLAG);
+        CompiledCommandLine changed = cl.compile();
+
+        assertNotSame(parser, changed);
+        assertFalse(parser.getOptions().containsKey("flag"));
+        assertTrue(changed.getOptions().containsKey("flag"));
+
+        cl.withFailOnUnknownToken(false);
+        assertNotSame(changed, cl.compile());
+    }
+
+    @Test
+    void argsKeepOrderOfOccurrence() {
+        CmdArgOption<String> optRepeat = CmdArgOption.builder(String.class)
+            .name("define")
+            .shortName('D')
+            .repeatable()
+            .optional()
+            .build();
+
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(OPT_INT, OPT_FLAG, optRepeat)
+            .withFailOnDupArg(false)
+            .compile();
+
+        ParseResult result = parser.parse(new String[] {"-f", "-D", "a", "--num", "1", "-D", "b", "-n", "2"});
+
+        assertEquals(List.of(OPT_FLAG, OPT_INT), new ArrayList<>(result.getKnownArgs().keySet()));
+        assertEquals(List.of(OPT_INT), new ArrayList<>(result.getDupArgs().keySet()));
+        assertEquals("2", result.getDupArgs().get(OPT_INT));
+        assertEquals(1, result.getArg(OPT_INT));
+        assertEquals(List.of("a", "b"), result.getArgs(optRepeat));
+        assertEquals(2, result.getArgCount(optRepeat));
+        assertEquals(1, result.getArgCount(OPT_FLAG));
+        assertEquals(0, result.getArgCount(CmdArgOption.builder().name("other").build()));
+    }
+
+    @Test
+    void validateRequiredOptionsBeyondFirstWord() {
+        CommandLine cl = new CommandLine();
+        for (int i = 0; i < 130; i++) {
+            cl.addOption(CmdArgOption.builder(String.class)
+                .name("opt" + i)
+                .required(i == 0 || i == 64 || i == 129)
+                .build());
+        }
+        CompiledCommandLine parser = cl.compile();
+
+        assertEquals("Parsing of command-line failed: required options missing: opt0, opt64, opt129",
+            assertThrows(CommandLineException.class, () -> parser.parse(new String[] {"--opt63", "x"})).getMessage());
+        assertEquals("Parsing of command-line failed: required options missing: opt64",
+            assertThrows(CommandLineException.class, () -> parser.parse(new String[] {"--opt0", "x", "--opt129", "y"})).getMessage());
+
+        ParseResult result = parser.parse(new String[] {"--opt0", "a", "--opt64", "b", "--opt129", "c"});
+        assertEquals("b", result.getArg(cl.getOption("opt64")));
+    }
+
+    @Test
+    void valuesAreConvertedOnce() {
+        AtomicInteger conversions = new AtomicInteger();
+        CmdArgOption<URI> optUri = CmdArgOption.builder(URI.class)
+            .name("uri")
+            .required()
+            .build();
+        CmdArgOption<URI> optMirror = CmdArgOption.builder(URI.class)
+            .name("mirror")
+            .repeatable()
+            .optional()
+            .build();
+
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(optUri, optMirror)
+            .registerConverter(URI.class, s -> {
+                conversions.incrementAndGet();
+                return URI.create(s);
+            })
+            .compile();
+
+        ParseResult result = parser.parse(new String[] {"--uri", "http://a", "--mirror", "http://b", "--mirror", "http://c"});
+        assertEquals(1, conversions.get());
+
+        URI uri = result.getArg(optUri);
+        assertSame(uri, result.getArg(optUri));
+        assertEquals(List.of(uri), result.getArgs(optUri));
+        assertEquals(1, conversions.get());
+
+        List<URI> mirrors = result.getArgs(optMirror);
+        mirrors.clear();
+        assertEquals(List.of(URI.create("http://b"), URI.create("http://c")), result.getArgs(optMirror));
+        assertEquals(3, conversions.get());
+    }
+
+    @Test
+    void primitiveValuesAreConvertedOnce() {
+        AtomicInteger conversions = new AtomicInteger();
+        CmdArgOption<Long> optSize = CmdArgOption.builder(long.class)
+            .name("size")
+            .optional()
+            .build();
+        CmdArgOption<Double> optRatio = CmdArgOption.builder(double.class)
+            .name("ratio")
+            .optional()
+            .build();
+        CmdArgOption<Boolean> optDebug = CmdArgOption.builder(boolean.class)
+            .name("debug")
+            .optional()
+            .build();
+
+        ParseResult result = new CommandLine()
+            .addOptions(OPT_INT, optSize, optRatio, optDebug)
+            .registerIntConverter(s -> {
+                conversions.incrementAndGet();
+                return Integer.parseInt(s);
+            })
+            .compile()
+            .parse(new String[] {"-n", "100000", "--size", "5000000000", "--ratio", "0.5", "--debug", "yes"});
+        assertEquals(1, conversions.get());
+
+        assertEquals(100000, result.getInt(OPT_INT));
+        assertEquals(100000L, result.getLong(OPT_INT));
+        assertEquals(100000d, result.getDouble(OPT_INT));
+        Integer value = result.getArg(OPT_INT);
+        assertEquals(100000, value);
+        assertSame(value, result.getArg(OPT_INT), "boxed value is stored");
+        assertEquals(1, conversions.get());
+
+        assertEquals(5_000_000_000L, result.getLong(optSize));
+        assertEquals(5_000_000_000L, result.getArg(optSize));
+        assertEquals(0.5, result.getDouble(optRatio));
+        assertEquals(0.5, result.getArg(optRatio));
+        assertTrue(result.getBoolean(optDebug));
+        assertEquals(Boolean.TRUE, result.getArg(optDebug));
+    }
+
+    @Test
+    void lazyConversion() {
+        AtomicInteger conversions = new AtomicInteger();
+        CmdArgOption<URI> optUri = CmdArgOption.builder(URI.class)
+            .name("uri")
+            .optional()
+            .build();
+        CmdArgOption<String> optMode = CmdArgOption.builder(String.class)
+            .name("mode")
+            .possibleValue(Map.of("fast", "fast mode"))
+            .optional()
+            .build();
+
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(OPT_INT, optUri, optMode)
+            .registerConverter(URI.class, s -> {
+                conversions.incrementAndGet();
+                return URI.create(s);
+            })
+            .withLazyConversion(true)
+            .withExceptionType(IllegalStateException.class)
+            .compile();
+
+        assertTrue(parser.isLazyConversion());
+
+        ParseResult result = parser.parse(new String[] {"-n", "x", "--uri", "http://a", "--mode", "slow"});
+        assertEquals(0, conversions.get());
+
+        assertEquals(URI.create("http://a"), result.getArg(optUri));
+        assertEquals(URI.create("http://a"), result.getArg(optUri));
+        assertEquals(1, conversions.get());
+
+        assertEquals("argument '-n/--num' has invalid value ('x'): For input string: \"x\"",
+            assertThrows(IllegalStateException.class, () -> result.getArg(OPT_INT)).getMessage());
+        assertThrows(IllegalStateException.class, () -> result.getInt(OPT_INT));
+        assertEquals("Value 'slow' is not valid for option '--mode', possible are: fast",
+            assertThrows(IllegalStateException.class, () -> result.getArg(optMode)).getMessage());
+
+        // structure is still checked while parsing
+        assertEquals("Parsing of command-line failed: required options missing: num",
+            assertThrows(IllegalStateException.class, () -> parser.parse(new String[] {"--uri", "http://b"})).getMessage());
+    }
+
+    @Test
+    void parseConcurrently() throws Exception {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String val = String.valueOf(i);
+                futures.add(executor.submit(() -> parser.parse(new String[] {"-f", "--num", val}).getArg(OPT_INT)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(i, futures.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void readLazyValuesConcurrently() throws Exception {
+        CmdArgOption<URI> optUri = CmdArgOption.builder(URI.class)
+            .name("uri")
+            .optional()
+            .build();
+        CompiledCommandLine parser = new CommandLine()
+            .addOption(optUri)
+            .registerConverter(URI.class, URI::create)
+            .withLazyConversion(true)
+            .compile();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 50; i++) {
+                ParseResult result = parser.parse(new String[] {"--uri", "http://a/" + i});
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<URI>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return result.getArg(optUri);
+                    }));
+                }
+                start.countDown();
+                URI first = futures.get(0).get(10, TimeUnit.SECONDS);
+                for (Future<URI> future : futures) {
+                    assertSame(first, future.get(10, TimeUnit.SECONDS), "all threads get the same converted value");
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void parseAll() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        List<String[]> argsList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            argsList.add(i % 10 == 3 ? new String[] {"-f"} : new String[] {"-n", String.valueOf(i)});
+        }
+
+        List<ParseOutcome> outcomes = parser.parseAll(argsList);
+        assertEquals(argsList.size(), outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            ParseOutcome outcome = outcomes.get(i);
+            assertSame(argsList.get(i), outcome.getArgs());
+            if (i % 10 == 3) {
+                assertFalse(outcome.isSuccess());
+                assertNull(outcome.getResult());
+                assertInstanceOf(CommandLineException.class, outcome.getFailure());
+                assertThrows(CommandLineException.class, outcome::getResultOrThrow);
+            } else {
+                assertTrue(outcome.isSuccess());
+                assertEquals(i, outcome.getResultOrThrow().getInt(OPT_INT));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<ParseOutcome> viaExecutor = parser.parseAll(argsList, executor);
+            assertEquals(argsList.size(), viaExecutor.size());
+            assertEquals(998, viaExecutor.get(998).getResult().getInt(OPT_INT));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(parser.parseAll(List.of()).isEmpty());
+    }
+
+    @Test
+    void parseAllStream() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+
+        List<String[]> argsList = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            argsList.add(new String[] {"-n", String.valueOf(i)});
+        }
+
+        List<ParseOutcome> outcomes = parser.parseAll(argsList.stream().parallel()).collect(Collectors.toList());
+
+        assertEquals(500, outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            assertEquals(i, outcomes.get(i).getResult().getInt(OPT_INT));
+        }
+    }
+
+    @Test
+    void parseListener() {
+        RecordingListener listener = new RecordingListener();
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(OPT_INT, OPT_FLAG)
+            .withFailOnUnknownArg(false)
+            .withFailOnUnknownToken(false)
+            .withFailOnDupArg(false)
+            .withParseListener(listener)
+            .compile();
+
+        ParseResult result = parser.parse(new String[] {"-n", "1", "tok", "--other", "x", "-f", "-f", "-n"});
+        assertEquals(List.of("option:num", "value:num=1", "unknownToken:tok", "unknownArg:--other=x",
+            "option:flag", "duplicate:flag=null", "missingValue:num", "end"), listener.events);
+        assertEquals(1, result.getInt(OPT_INT));
+        assertEquals(List.of("tok"), result.getUnknownTokens());
+
+        listener.events.clear();
+        parser.parse(new String[] {"-n", "2"}, parser.createContext());
+        assertEquals(List.of("option:num", "value:num=2", "end"), listener.events);
+    }
+
+    @Test
+    void parseToListener() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        RecordingListener listener = new RecordingListener();
+
+        // no validation, the required option is missing and unknown arguments are reported only
+        parser.parseToListener(new String[] {"-x", "tok", "-f"}, listener);
+        assertEquals(List.of("unknownArg:-x=tok", "option:flag", "end"), listener.events);
+
+        listener.events.clear();
+        parser.parseToListener((String[]) null, listener);
+        assertEquals(List.of("end"), listener.events);
+
+        assertThrows(NullPointerException.class, () -> parser.parseToListener(new String[0], null));
+    }
+
+    @Test
+    void parseStream() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        AtomicInteger tokens = new AtomicInteger();
+
+        // generated lazily, the arguments never exist at once
+        Iterator<String> args = new Iterator<>() {
+            private int idx;
+
+            @Override
+            public boolean hasNext() {
+                return idx < 1_000_002;
+            }
+
+            @Override
+            public String next() {
+                int i = idx++;
+                return i == 0 ? "-n" : i == 1 ? "7" : "file" + i;
+            }
+        };
+
+        ParseResult result = parser.parseStream(args, t -> tokens.incrementAndGet());
+        assertEquals(7, result.getInt(OPT_INT));
+        assertEquals(1_000_000, tokens.get());
+        assertTrue(result.getUnknownTokens().isEmpty());
+
+        List<String> collected = new ArrayList<>();
+        List<CharSequence> sequences = List.of(new StringBuilder("a"), "-f", new StringBuilder("--num"), "3", "b");
+        result = parser.parseStream(sequences.iterator(), collected::add);
+        assertEquals(List.of("a", "b"), collected);
+        assertTrue(result.hasArg(OPT_FLAG));
+        assertEquals(3, result.getInt(OPT_INT));
+
+        assertThrows(CommandLineException.class, () -> parser.parseStream(List.of("-f").iterator(), collected::add));
+    }
+
+    @Test
+    void parseStreamFromReader() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        List<String> collected = new ArrayList<>();
+
+        ParseResult result = parser.parseStream(new StringReader("--num\n12\n\n./dir/file one.txt\n  ./other.txt  \n-f\n"), collected::add);
+        assertEquals(12, result.getInt(OPT_INT));
+        assertTrue(result.hasArg(OPT_FLAG));
+        assertEquals(List.of("./dir/file one.txt", "./other.txt"), collected);
+    }
+
+    @Test
+    void parseToListenerFromIterator() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        RecordingListener listener = new RecordingListener();
+
+        parser.parseToListener(List.of("x", "-n", "5").iterator(), listener);
+        assertEquals(List.of("unknownToken:x", "option:num", "value:num=5", "end"), listener.events);
+    }
+
+    @Test
+    void parseLine() {
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(OPT_INT, OPT_FLAG)
+            .withFailOnUnknownToken(false)
+            .compile();
+
+        ParseResult result = parser.parse("  --num\t'42'   \"some file\" -f ");
+        assertEquals(42, result.getInt(OPT_INT));
+        assertTrue(result.hasArg(OPT_FLAG));
+        assertEquals(List.of("some file"), result.getUnknownTokens());
+
+        ParseContext context = parser.createContext();
+        assertEquals(7, parser.parse(new StringBuilder("-n 7"), context).getInt(OPT_INT));
+        assertEquals(8, parser.parse("-n=8", context).getInt(OPT_INT));
+        assertEquals(9, parser.parse(new String[] {"-n", "9"}, context).getInt(OPT_INT));
+        assertEquals(10, parser.parse("--num \\\n    10 \\\n    -f", context).getInt(OPT_INT));
+
+        assertThrows(CommandLineException.class, () -> parser.parse("-n '1"));
+        assertThrows(CommandLineException.class, () -> parser.parse("-f"));
+    }
+
+    @Test
+    void parseByteBuffer() {
+        CmdArgOption<String> optName = CmdArgOption.builder(String.class).name("näme").optional().build();
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(OPT_INT, OPT_FLAG, optName)
+            .withFailOnUnknownToken(false)
+            .compile();
+
+        byte[] frame = "für -n 42 --näme=\"Groß\" -f".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.allocate(frame.length + 4);
+        heap.put(new byte[] {'x', 'x'}).put(frame).put(new byte[] {'y', 'y'});
+        heap.position(2).limit(2 + frame.length);
+
+        ParseResult result = parser.parse(heap);
+        assertEquals(42, result.getInt(OPT_INT));
+        assertEquals("Groß", result.getArg(optName));
+        assertTrue(result.hasArg(OPT_FLAG));
+        assertEquals(List.of("für"), result.getUnknownTokens());
+        assertEquals(2, heap.position(), "position of buffer is not changed");
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(frame.length);
+        direct.put(frame).flip();
+        ParseContext context = parser.createContext();
+        assertEquals(42, parser.parse(direct, context).getInt(OPT_INT));
+        assertEquals("Groß", context.getResult().getArg(optName));
+        assertEquals(7, parser.parse(ByteBuffer.wrap("-n 7".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer(), context).getInt(OPT_INT));
+
+        assertThrows(CommandLineException.class, () -> parser.parse(ByteBuffer.wrap(new byte[] {'-', 'f'})));
+        assertThrows(CommandLineException.class, () -> parser.parse((ByteBuffer) null));
+    }
+
+    private static class RecordingListener implements IParseListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onOption(CmdArgOption<?> _option) {
+            events.add("option:" + _option.getName());
+        }
+
+        @Override
+        public void onValue(CmdArgOption<?> _option, String _value) {
+            events.add("value:" + _option.getName() + "=" + _value);
+        }
+
+        @Override
+        public void onDuplicate(CmdArgOption<?> _option, String _value) {
+            events.add("duplicate:" + _option.getName() + "=" + _value);
+        }
+
+        @Override
+        public void onMissingValue(CmdArgOption<?> _option) {
+            events.add("missingValue:" + _option.getName());
+        }
+
+        @Override
+        public void onUnknownArg(String _name, String _value) {
+            events.add("unknownArg:" + _name + "=" + _value);
+        }
+
+        @Override
+        public void onUnknownToken(String _token) {
+            events.add("unknownToken:" + _token);
+        }
+
+        @Override
+        public void onEnd() {
+            events.add("end");
+        }
+    }
+
+}
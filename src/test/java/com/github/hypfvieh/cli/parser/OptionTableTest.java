@@ -0,0 +1,70 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+class OptionTableTest extends AbstractBaseTest {
+
+    @Test
+    void lookupManyNames() {
+        CmdArgOption<?>[] options = new CmdArgOption<?>[1200];
+        for (int i = 0; i < options.length; i++) {
+            options[i] = CmdArgOption.builder().name("plugin-option-" + i).optional().build();
+        }
+        OptionTable table = new OptionTable(options);
+
+        for (int i = 0; i < options.length; i++) {
+            String token = "--plugin-option-" + i + "=x";
+            assertEquals(i, table.get(token, 2, token.length() - 2));
+        }
+        assertEquals(-1, table.get("plugin-option-1200", 0, 18));
+        assertEquals(-1, table.get("plugin-option-1", 0, 14));
+        assertEquals(-1, table.get("", 0, 0));
+    }
+
+    @Test
+    void lookupCollidingHashes() {
+        // "Aa" and "BB" have the same String.hashCode()
+        OptionTable table = new OptionTable(new CmdArgOption<?>[] {
+            CmdArgOption.builder().name("Aa").optional().build(),
+            CmdArgOption.builder().name("BB").shortName('B').optional().build()
+        });
+
+        assertEquals(0, table.get("Aa", 0, 2));
+        assertEquals(1, table.get("BB", 0, 2));
+        assertEquals(1, table.get('B'));
+        assertEquals(-1, table.get('A'));
+    }
+
+    @Test
+    void firstOptionUsingNameWins() {
+        OptionTable table = new OptionTable(new CmdArgOption<?>[] {
+            CmdArgOption.builder().name("x").optional().build(),
+            CmdArgOption.builder().name("long").shortName('x').optional().build(),
+            CmdArgOption.builder().name("long").optional().build()
+        });
+
+        assertEquals(0, table.get('x'));
+        assertEquals(1, table.get("long", 0, 4));
+        assertEquals(-1, new OptionTable(new CmdArgOption<?>[0]).get("none", 0, 4));
+    }
+
+    @Test
+    void lookupIgnoringCase() {
+        OptionTable table = new OptionTable(new CmdArgOption<?>[] {
+            CmdArgOption.builder().name("LogLevel").shortName('l').optional().build(),
+            CmdArgOption.builder().name("gr\u00f6\u00dfe").shortName('L').optional().build()
+        }, true);
+
+        assertEquals(0, table.get("--loglevel", 2, 10));
+        assertEquals(0, table.get("--LOGLEVEL", 2, 10));
+        assertEquals(1, table.get("GR\u00d6\u00dfE", 0, 5));
+        assertEquals(-1, table.get("loglevels", 0, 9));
+        assertEquals(0, table.get('l'));
+        assertEquals(1, table.get('L'), "single characters are not folded");
+
+        assertEquals(-1, new OptionTable(new CmdArgOption<?>[] {
+            CmdArgOption.builder().name("LogLevel").optional().build()
+        }).get("loglevel", 0, 8));
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class OptionTrieTest extends AbstractBaseTest {
+
+    private static final CmdArgOption<?>[] OPTIONS = {
+        CmdArgOption.builder().name("verbose").optional().build(),
+        CmdArgOption.builder().name("version").optional().build(),
+        CmdArgOption.builder().name("verb").optional().build(),
+        CmdArgOption.builder().shortName('x').optional().build(),
+        CmdArgOption.builder().name("file").optional().build()
+    };
+
+    @Test
+    void resolvePrefixes() {
+        OptionTrie trie = new OptionTrie(OPTIONS);
+
+        assertEquals(2, get(trie, "verb"), "exact match");
+        assertEquals(0, get(trie, "verbo"));
+        assertEquals(0, get(trie, "verbose"));
+        assertEquals(1, get(trie, "vers"));
+        assertEquals(4, get(trie, "f"));
+        assertEquals(OptionTrie.AMBIGUOUS, get(trie, "ver"));
+        assertEquals(-1, get(trie, "verbosely"));
+        assertEquals(-1, get(trie, "x"), "short names are not part of the trie");
+        assertEquals(4, trie.get("--file=a", 2, 4), "range of characters");
+    }
+
+    @Test
+    void emptyPrefix() {
+        assertEquals(-1, get(new OptionTrie(OPTIONS), ""));
+        assertEquals(-1, new OptionTrie(new CmdArgOption<?>[] {OPTIONS[4]}).get("--=x", 2, 2), "single option is no match either");
+        assertEquals(List.of(), new OptionTrie(OPTIONS).getCandidates("", 0, 0));
+    }
+
+    @Test
+    void candidates() {
+        OptionTrie trie = new OptionTrie(OPTIONS);
+
+        assertEquals(List.of(2, 0, 1), trie.getCandidates("ve", 0, 2));
+        assertEquals(List.of(4), trie.getCandidates("file", 0, 4));
+        assertEquals(List.of(), trie.getCandidates("unknown", 0, 7));
+    }
+
+    private static int get(OptionTrie _trie, String _name) {
+        return _trie.get(_name, 0, _name.length());
+    }
+
+}
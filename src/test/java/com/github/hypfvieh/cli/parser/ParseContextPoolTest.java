@@ -0,0 +1,128 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class ParseContextPoolTest extends AbstractBaseTest {
+
+    private static final CmdArgOption<Integer> OPT_INT  = CmdArgOption.builder(int.class)
+        .name("num")
+        .shortName('n')
+        .required()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_FLAG = CmdArgOption.builder()
+        .name("flag")
+        .shortName('f')
+        .optional()
+        .build();
+
+    @Test
+    void acquireAndRelease() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        ParseContextPool pool = parser.getContextPool();
+
+        assertEquals(Runtime.getRuntime().availableProcessors() * 2, pool.getCapacity());
+        assertEquals(0, pool.getAvailable());
+
+        ParseContext context = pool.acquire();
+        assertSame(parser, context.getParser());
+        parser.parse(new String[] {"-n", "1", "-f"}, context);
+
+        pool.release(context);
+        assertEquals(1, pool.getAvailable());
+        assertFalse(context.getResult().hasArg(OPT_FLAG), "released context must be cleared");
+
+        assertSame(context, pool.acquire());
+        assertEquals(0, pool.getAvailable());
+        assertNotSame(context, pool.acquire());
+    }
+
+    @Test
+    void releaseIntoFullPool() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT).compile();
+        ParseContextPool pool = new ParseContextPool(parser, 2);
+
+        pool.release(parser.createContext());
+        pool.release(parser.createContext());
+        pool.release(parser.createContext());
+
+        assertEquals(2, pool.getAvailable());
+        assertThrows(IllegalArgumentException.class, () -> new ParseContextPool(parser, 0));
+    }
+
+    @Test
+    void threadsSpreadOverSlots() {
+        Set<Integer> slots = new HashSet<>();
+        for (long id = 0; id < 16 * 16; id += 16) { // ids in steps of the capacity would all start at the same slot using modulo
+            int slot = ParseContextPool.firstSlot(id, 16);
+            assertTrue(slot >= 0 && slot < 16, "slot " + slot);
+            slots.add(slot);
+        }
+        assertTrue(slots.size() >= 8, "used slots: " + slots);
+        assertEquals(0, ParseContextPool.firstSlot(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    void releaseContextOfOtherParser() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT).compile();
+        CompiledCommandLine other = new CommandLine().addOptions(OPT_INT).compile();
+
+        assertThrows(CommandLineException.class, () -> parser.getContextPool().release(other.createContext()));
+        assertEquals(0, parser.getContextPool().getAvailable());
+    }
+
+    @Test
+    void parseAndApply() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+
+        int value = parser.parseAndApply(new String[] {"-n", "42"}, r -> r.getInt(OPT_INT));
+        assertEquals(42, value);
+        assertEquals(1, parser.getContextPool().getAvailable());
+
+        boolean flag = parser.parseAndApply(new String[] {"-f", "-n", "1"}, r -> r.hasArg(OPT_FLAG));
+        assertTrue(flag);
+        assertEquals(1, parser.getContextPool().getAvailable());
+
+        assertThrows(CommandLineException.class, () -> parser.parseAndApply(new String[] {"-f"}, r -> r.hasArg(OPT_FLAG)));
+        assertEquals(1, parser.getContextPool().getAvailable(), "context must be returned if parsing fails");
+    }
+
+    @Test
+    void parseAndApplyConcurrently() throws Exception {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t * 1000;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < offset + 1000; i++) {
+                        int expected = i;
+                        boolean flag = i % 2 == 0;
+                        String[] args = flag ? new String[] {"-n", String.valueOf(i), "-f"} : new String[] {"-n", String.valueOf(i)};
+                        boolean valid = parser.parseAndApply(args, r -> r.getInt(OPT_INT) == expected && r.hasArg(OPT_FLAG) == flag);
+                        if (!valid) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(parser.getContextPool().getAvailable() <= parser.getContextPool().getCapacity());
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+class ParseContextTest extends AbstractBaseTest {
+
+    static {
+        // debug logging formats every command line, so it is disabled for the command line used in the allocation test only
+        System.setProperty("org.slf4j.simpleLogger.log." + QuietCommandLine.class.getName(), "info");
+    }
+
+    private static final CmdArgOption<Integer> OPT_INT     = CmdArgOption.builder(int.class)
+        .name("num")
+        .shortName('n')
+        .required()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_FLAG    = CmdArgOption.builder()
+        .name("flag")
+        .shortName('f')
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Void>    OPT_VERBOSE = CmdArgOption.builder()
+        .shortName('v')
+        .counter()
+        .build();
+
+    private static final CmdArgOption<String>  OPT_DEFINE  = CmdArgOption.builder(String.class)
+        .shortName('D')
+        .repeatable()
+        .optional()
+        .build();
+
+    @Test
+    void parseReusesResult() {
+        CompiledCommandLine parser = new CommandLine()
+            .addOptions(OPT_INT, OPT_FLAG, OPT_VERBOSE, OPT_DEFINE)
+            .withFailOnUnknownToken(false)
+            .withFailOnDupArg(false)
+            .compile();
+        ParseContext context = parser.createContext();
+
+        assertSame(parser, context.getParser());
+        assertFalse(context.getResult().hasArg(OPT_FLAG));
+
+        ParseResult first = parser.parse(new String[] {"-n", "1", "-f", "-vv", "-D", "a", "-D", "b", "-n", "2", "x", "y"}, context);
+        assertSame(context.getResult(), first);
+        assertEquals(1, first.getArg(OPT_INT));
+        assertTrue(first.hasArg(OPT_FLAG));
+        assertEquals(2, first.getCount(OPT_VERBOSE));
+        assertEquals(List.of("a", "b"), first.getArgs(OPT_DEFINE));
+        assertEquals("2", first.getDupArgs().get(OPT_INT));
+        assertEquals(List.of("x", "y"), first.getUnknownTokens());
+
+        ParseResult second = parser.parse(new String[] {"--num", "3"}, context);
+        assertSame(first, second);
+        assertEquals(3, second.getArg(OPT_INT));
+        assertFalse(second.hasArg(OPT_FLAG));
+        assertEquals(0, second.getCount(OPT_VERBOSE));
+        assertEquals(0, second.getArgCount(OPT_DEFINE));
+        assertTrue(second.getDupArgs().isEmpty());
+        assertTrue(second.getUnknownTokens().isEmpty());
+        assertTrue(second.getUnknownArgs().isEmpty());
+        assertEquals(1, second.getKnownArgs().size());
+
+        assertEquals(List.of("c"), parser.parse(new String[] {"-n", "4", "-D", "c"}, context).getArgs(OPT_DEFINE));
+    }
+
+    @Test
+    void parseFailureClearsContext() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT, OPT_FLAG).compile();
+        ParseContext context = parser.createContext();
+
+        assertThrows(CommandLineException.class, () -> parser.parse(new String[] {"-f"}, context));
+        assertTrue(context.getResult().hasArg(OPT_FLAG));
+
+        assertFalse(parser.parse(new String[] {"-n", "1"}, context).hasArg(OPT_FLAG));
+    }
+
+    @Test
+    void contextOfOtherParserFails() {
+        CompiledCommandLine parser = new CommandLine().addOptions(OPT_INT).compile();
+        ParseContext context = new CommandLine().addOptions(OPT_INT).compile().createContext();
+
+        assertEquals("ParseContext was created by another parser",
+            assertThrows(CommandLineException.class, () -> parser.parse(new String[] {"-n", "1"}, context)).getMessage());
+        assertThrows(NullPointerException.class, () -> parser.parse(new String[] {"-n", "1"}, null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void parseWithoutAllocation(boolean _ignoreOptionCase) {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counter not supported");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+
+        CompiledCommandLine parser = new QuietCommandLine()
+            .addOptions(OPT_INT, OPT_FLAG, OPT_VERBOSE, OPT_DEFINE)
+            .withIgnoreOptionCase(_ignoreOptionCase)
+            .compile();
+        ParseContext context = parser.createContext();
+        String[] args = {"-f", _ignoreOptionCase ? "--NuM" : "--num", "42", "-vvv", "-D", "a", "-D", "b"};
+
+        long sum = 0;
+        for (int i = 0; i < 20_000; i++) { // warm up
+            sum += parser.parse(args, context).getInt(OPT_INT);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            ParseResult result = parser.parse(args, context);
+            sum += result.getInt(OPT_INT) + result.getCount(OPT_VERBOSE) + (result.getBoolean(OPT_FLAG) ? 1 : 0);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(20_000 * 42 + 10_000 * (42 + 3 + 1), sum);
+        // allow some bytes for the measurement itself, a single allocation per parse would exceed this
+        assertTrue(allocated < 10_000, "Allocated " + allocated + " bytes");
+    }
+
+    /**
+     * Command line using its own logger, so the log level can be set for this test only.
+     */
+    private static final class QuietCommandLine extends AbstractBaseCommandLine<QuietCommandLine> {
+        @Override
+        protected QuietCommandLine self() {
+            return this;
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class ShellLineSourceTest extends AbstractBaseTest {
+
+    @Test
+    void splitWhitespace() {
+        assertEquals(List.of("a", "bc", "d"), split("  a \t bc\n\r\nd  "));
+        assertEquals(List.of(), split("   "));
+        assertEquals(List.of(), split(""));
+        assertEquals(List.of(), split(null));
+    }
+
+    @Test
+    void splitQuoted() {
+        assertEquals(List.of("a b", "c \\\"d", "", "e"), split("'a b' 'c \\\"d' '' e"));
+        assertEquals(List.of("a b", "say \"hi\"", "back\\slash", "keep\\n", "$x", ""), split("\"a b\" \"say \\\"hi\\\"\" \"back\\\\slash\" \"keep\\n\" \"\\$x\" \"\""));
+        assertEquals(List.of("--name=a b", "x'y'z", "ab"), split("--name=\"a b\" x\"'y'\"z a''b"));
+    }
+
+    @Test
+    void splitEscaped() {
+        assertEquals(List.of("a b", "c", "joined", "tail\\"), split("a\\ b \\c join\\\ned tail\\"));
+        assertEquals(List.of("joined", "x"), split("join\\\r\ned x"));
+        assertEquals(List.of("ab"), split("\"a\\\nb\""));
+    }
+
+    @Test
+    void splitIndentedContinuation() {
+        assertEquals(List.of("--name", "value", "-v"), split("--name \\\n    value \\\r\n\t-v"));
+        assertEquals(List.of("a"), split("\\\n  a \\\n"));
+        assertEquals(List.of(), split(" \\\n "));
+    }
+
+    @Test
+    void splitUnterminated() {
+        assertThrows(CommandLineException.class, () -> split("a 'b"));
+        assertThrows(CommandLineException.class, () -> split("a \"b\\\""));
+    }
+
+    @Test
+    void rangesOfLine() {
+        String line = "--file \"my file\" -v 'x''y'";
+        ShellLineSource source = new ShellLineSource(line, CommandLineException.class);
+
+        assertSame(line, source.nextChars());
+        assertEquals(0, source.getStart());
+        assertEquals(6, source.getEnd());
+
+        assertSame(line, source.nextChars(), "quoted argument is a range of the line");
+        assertEquals("my file", line.substring(source.getStart(), source.getEnd()));
+
+        assertSame(line, source.nextChars());
+
+        CharSequence copied = source.nextChars();
+        assertNotSame(line, copied, "argument with quotes in between is copied");
+        assertEquals("xy", copied.subSequence(source.getStart(), source.getEnd()).toString());
+        assertFalse(source.hasNext());
+
+        source.reset("again");
+        assertEquals("again", source.next());
+    }
+
+    @Test
+    void splitUtf8Bytes() {
+        assertEquals(List.of("--name=Jürgen Groß", "ü", "plain", "a€b"),
+            split(utf8("--name=\"Jürgen Groß\" \\ü plain 'a'€\"b\"")));
+
+        Utf8CharSequence bytes = utf8("-v 'x''y'");
+        ShellLineSource source = new ShellLineSource(bytes, CommandLineException.class);
+        assertSame(bytes, source.nextChars(), "ASCII argument is a range of the bytes");
+        assertEquals("-v", bytes.subSequence(source.getStart(), source.getEnd()));
+        assertEquals("xy", source.next());
+
+        assertEquals("é", new ShellLineSource(utf8("é"), CommandLineException.class).nextChars(), "non-ASCII argument is decoded");
+    }
+
+    private static Utf8CharSequence utf8(String _line) {
+        return new Utf8CharSequence().reset(ByteBuffer.wrap(_line.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> split(CharSequence _line) {
+        ShellLineSource source = new ShellLineSource(_line, CommandLineException.class);
+        List<String> result = new ArrayList<>();
+        while (source.hasNext()) {
+            result.add(source.next());
+        }
+        return result;
+    }
+
+}
@@ -218,4 +218,19 @@ class StaticUtilsTest extends AbstractBaseTest {
         }
     }
 
+    @Test
+    void testBitSet() {
+        long[] bits = StaticUtils.createBitSet(65);
+        assertEquals(2, bits.length);
+        assertEquals(0, StaticUtils.createBitSet(0).length);
+        assertEquals(1, StaticUtils.createBitSet(64).length);
+
+        StaticUtils.setBit(bits, 0);
+        StaticUtils.setBit(bits, 64);
+        assertTrue(StaticUtils.isBitSet(bits, 0));
+        assertFalse(StaticUtils.isBitSet(bits, 1));
+        assertFalse(StaticUtils.isBitSet(bits, 63));
+        assertTrue(StaticUtils.isBitSet(bits, 64));
+    }
+
 }
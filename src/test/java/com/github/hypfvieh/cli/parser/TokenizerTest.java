@@ -0,0 +1,159 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+class TokenizerTest extends AbstractBaseTest {
+
+    private static final CmdArgOption<String> OPT_FILE = CmdArgOption.builder(String.class)
+        .name("file")
+        .shortName('f')
+        .optional()
+        .build();
+
+    private static final CmdArgOption<Void>   OPT_VERB = CmdArgOption.builder()
+        .name("verbose")
+        .shortName('v')
+        .optional()
+        .build();
+
+    private static final int                  FILE     = 0;
+    private static final int                  VERB     = 1;
+
+    private static Tokenizer createTokenizer(String _longPrefix, String _shortPrefix) {
+        return new Tokenizer(_longPrefix, _shortPrefix, new CmdArgOption<?>[] {OPT_FILE, OPT_VERB});
+    }
+
+    private static Token classify(Tokenizer _tokenizer, String _str) {
+        return _tokenizer.classify(_str, 0, _str.length(), new Token());
+    }
+
+    @Test
+    void classifyLongOption() {
+        Tokenizer tokenizer = createTokenizer("--", "-");
+
+        Token token = classify(tokenizer, "--file");
+        assertEquals(Token.LONG, token.getKind());
+        assertEquals(FILE, tokenizer.lookup(token));
+        assertNull(token.getValue());
+
+        token = classify(tokenizer, "--file=a=b");
+        assertEquals(Token.LONG, token.getKind());
+        assertEquals(FILE, tokenizer.lookup(token));
+        assertEquals("a=b", token.getValue());
+
+        token = classify(tokenizer, "--unknown");
+        assertEquals(Token.LONG, token.getKind());
+        assertEquals(-1, tokenizer.lookup(token));
+    }
+
+    @Test
+    void classifyEmptyValueIsPartOfName() {
+        Tokenizer tokenizer = createTokenizer("--", "-");
+
+        Token token = classify(tokenizer, "--file=");
+        assertFalse(token.hasValue());
+        assertEquals(-1, tokenizer.lookup(token));
+    }
+
+    @Test
+    void classifyShortOption() {
+        Tokenizer tokenizer = createTokenizer("--", "-");
+
+        Token token = classify(tokenizer, "-f");
+        assertEquals(Token.SHORT, token.getKind());
+        assertEquals(FILE, tokenizer.lookup(token));
+
+        token = classify(tokenizer, "-f=x");
+        assertEquals(Token.SHORT, token.getKind());
+        assertEquals(FILE, tokenizer.lookup(token));
+        assertEquals("x", token.getValue());
+    }
+
+    @Test
+    void classifyCombinedShortOptions() {
+        Tokenizer tokenizer = createTokenizer("--", "-");
+
+        Token token = classify(tokenizer, "-vf=x");
+        assertEquals(Token.CLUSTER, token.getKind());
+        assertEquals(VERB, tokenizer.lookup(token.getChars(), token.getNameStart()));
+        assertEquals(FILE, tokenizer.lookup(token.getChars(), token.getNameEnd() - 1));
+        assertEquals("x", token.getValue());
+    }
+
+    @Test
+    void lookupByName() {
+        Tokenizer tokenizer = createTokenizer("--", "-");
+
+        assertEquals(FILE, tokenizer.lookup("file"));
+        assertEquals(VERB, tokenizer.lookup("v"));
+        assertEquals(-1, tokenizer.lookup("x"));
+        assertEquals(-1, tokenizer.lookup((String) null));
+    }
+
+    @Test
+    void classifyPlainValues() {
+        Tokenizer tokenizer = createTokenizer("--", "-");
+
+        assertEquals(Token.PLAIN, classify(tokenizer, "value").getKind());
+        assertEquals(Token.PLAIN, classify(tokenizer, "-").getKind());
+        assertEquals(Token.PLAIN, classify(tokenizer, "--").getKind());
+        assertEquals(Token.PLAIN, classify(tokenizer, "---f").getKind());
+        assertEquals(Token.PLAIN, tokenizer.classify(null, 0, 0, new Token()).getKind());
+    }
+
+    @Test
+    void classifyRange() {
+        Tokenizer tokenizer = createTokenizer("--", "-");
+
+        Token token = tokenizer.classify("  --file=x  ", 2, 10, new Token());
+        assertEquals(Token.LONG, token.getKind());
+        assertEquals(FILE, tokenizer.lookup(token));
+        assertEquals("x", token.getValue());
+        assertEquals("--file=x", token.getText());
+    }
+
+    @Test
+    void classifyCustomPrefixes() {
+        Tokenizer tokenizer = createTokenizer("//", "/");
+
+        Token token = classify(tokenizer, "//verbose");
+        assertEquals(Token.LONG, token.getKind());
+        assertEquals(VERB, tokenizer.lookup(token));
+
+        token = classify(tokenizer, "/v");
+        assertEquals(Token.SHORT, token.getKind());
+        assertEquals(VERB, tokenizer.lookup(token));
+
+        assertEquals(Token.PLAIN, classify(tokenizer, "--verbose").getKind());
+    }
+
+    @Test
+    void lookupAbbreviatedLongOption() {
+        Tokenizer tokenizer = new Tokenizer("--", "-", new CmdArgOption<?>[] {OPT_FILE, OPT_VERB}, true, false);
+
+        assertEquals(VERB, tokenizer.lookup(classify(tokenizer, "--verb")));
+        assertEquals(FILE, tokenizer.lookup(classify(tokenizer, "--fi=x")));
+        assertEquals(-1, tokenizer.lookup(classify(tokenizer, "-ve")), "short options are not abbreviated");
+        assertEquals(-1, tokenizer.lookup(classify(tokenizer, "--verbx")));
+        assertEquals(-1, createTokenizer("--", "-").lookup(classify(tokenizer, "--verb")));
+    }
+
+    @Test
+    void lookupSingleCharacters() {
+        CmdArgOption<Void> optUmlaut = CmdArgOption.builder().shortName('\u00fc').optional().build();
+        CmdArgOption<Void> optLongX = CmdArgOption.builder().name("x").optional().build();
+        Tokenizer tokenizer = new Tokenizer("--", "-", new CmdArgOption<?>[] {OPT_FILE, OPT_VERB, optUmlaut, optLongX});
+
+        String cluster = "-fv\u00fcxz";
+        assertEquals(FILE, tokenizer.lookup(cluster, 1));
+        assertEquals(VERB, tokenizer.lookup(cluster, 2));
+        assertEquals(2, tokenizer.lookup(cluster, 3), "non-ASCII short option");
+        assertEquals(3, tokenizer.lookup(cluster, 4), "long name with a single character");
+        assertEquals(-1, tokenizer.lookup(cluster, 5));
+        assertEquals(-1, tokenizer.lookup("\u00e4", 0));
+
+        assertEquals(VERB, tokenizer.lookup(classify(tokenizer, "-v")));
+        assertEquals(2, tokenizer.lookup(classify(tokenizer, "-\u00fc")));
+    }
+
+}
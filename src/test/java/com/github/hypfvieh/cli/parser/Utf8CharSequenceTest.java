@@ -0,0 +1,46 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class Utf8CharSequenceTest extends AbstractBaseTest {
+
+    @Test
+    void bytesAsChars() {
+        byte[] bytes = "a-ü=€".getBytes(StandardCharsets.UTF_8);
+        Utf8CharSequence chars = new Utf8CharSequence().reset(ByteBuffer.wrap(bytes));
+
+        assertEquals(bytes.length, chars.length());
+        assertEquals('a', chars.charAt(0));
+        assertEquals('-', chars.charAt(1));
+        assertTrue(chars.charAt(2) > 0x7F);
+        assertTrue(chars.isAscii(0, 2));
+        assertFalse(chars.isAscii(0, 3));
+        assertEquals("ü", chars.subSequence(2, 4));
+        assertEquals("a-ü=€", chars.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> chars.charAt(bytes.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> chars.subSequence(1, bytes.length + 1));
+
+        StringBuilder sb = new StringBuilder("x");
+        chars.appendTo(sb, 0, 2);
+        chars.appendTo(sb, 5, 8);
+        assertEquals("xa-€", sb.toString());
+
+        assertEquals(0, chars.reset(null).length());
+        assertEquals("", chars.toString());
+    }
+
+    @Test
+    void remainingBytesOfDirectBuffer() {
+        ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        direct.put("skip:Groß".getBytes(StandardCharsets.UTF_8)).flip().position(5);
+
+        Utf8CharSequence chars = new Utf8CharSequence().reset(direct);
+        assertEquals('G', chars.charAt(0));
+        assertEquals("Groß", chars.toString());
+        assertEquals(5, direct.position());
+    }
+
+}
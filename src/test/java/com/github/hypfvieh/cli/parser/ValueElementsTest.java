@@ -0,0 +1,53 @@
+package com.github.hypfvieh.cli.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class ValueElementsTest extends AbstractBaseTest {
+
+    private static List<String> readAll(ValueElements _elements) {
+        List<String> result = new ArrayList<>();
+        while (_elements.next()) {
+            result.add(_elements.toString());
+        }
+        return result;
+    }
+
+    @Test
+    void splitSingleValue() {
+        ValueElements elements = new ValueElements(null, " a, b ,,c,", ',');
+
+        assertEquals(3, elements.count());
+        assertEquals(List.of("a", "b", "c"), readAll(elements));
+    }
+
+    @Test
+    void splitMultipleValues() {
+        ValueElements elements = new ValueElements(Arrays.asList("1;2", null, "", "3"), "ignored", ';');
+
+        assertEquals(List.of("1", "2", "3"), readAll(elements));
+    }
+
+    @Test
+    void valuesWithoutDelimiter() {
+        assertEquals(List.of(" a,b "), readAll(new ValueElements(null, " a,b ", null)));
+        assertEquals(List.of("x", "y"), readAll(new ValueElements(List.of("x", "y"), null, null)));
+        assertEquals(0, new ValueElements(null, null, ',').count());
+    }
+
+    @Test
+    void elementRange() {
+        ValueElements elements = new ValueElements(null, "10,20", ',');
+
+        assertTrue(elements.next());
+        assertTrue(elements.next());
+        assertEquals("10,20", elements.getValue());
+        assertEquals(3, elements.getStart());
+        assertEquals(5, elements.getEnd());
+        assertFalse(elements.next());
+    }
+
+}
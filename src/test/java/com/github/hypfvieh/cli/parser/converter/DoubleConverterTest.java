@@ -16,6 +16,19 @@ class DoubleConverterTest extends AbstractBaseTest {
 
         assertEquals(17.4, converter.convert("17.4"));
         assertEquals(8.12, converter.convert("8,12"));
+        assertEquals(8.12, converter.convertDouble("8,12"));
+    }
+
+    @Test
+    void testReadRange() {
+        DoubleConverter converter = new DoubleConverter();
+
+        for (String val : new String[] {"0", "-0", "+1", "17.4", "0.1", ".5", "1.", "-123456.789012345", "3.14159265358979",
+            "1234567890123456789", "1e3", "0.30000000000000004"}) {
+            String str = "[" + val + "]";
+            assertEquals(Double.parseDouble(val), converter.convertDouble(str, 1, str.length() - 1), val);
+        }
+        assertThrows(CommandLineException.class, () -> converter.convertDouble("hi", 0, 2));
     }
 
     @Test
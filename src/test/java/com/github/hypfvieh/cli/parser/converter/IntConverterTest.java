@@ -0,0 +1,25 @@
+package com.github.hypfvieh.cli.parser.converter;
+
+import com.github.hypfvieh.cli.parser.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+class IntConverterTest extends AbstractBaseTest {
+
+    @Test
+    void testReadValid() {
+        IntConverter converter = new IntConverter();
+
+        assertEquals(42, converter.convertInt("42"));
+        assertEquals(-7, converter.convertInt("-7"));
+        assertEquals(8081, converter.convertInt("8080,8081", 5, 9));
+    }
+
+    @Test
+    void testReadInValid() {
+        IntConverter converter = new IntConverter();
+
+        assertThrows(NumberFormatException.class, () -> converter.convertInt("hi"));
+        assertThrows(NumberFormatException.class, () -> converter.convertInt("1,2", 0, 3));
+    }
+
+}
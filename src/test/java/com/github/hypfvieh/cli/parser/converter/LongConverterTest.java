@@ -0,0 +1,25 @@
+package com.github.hypfvieh.cli.parser.converter;
+
+import com.github.hypfvieh.cli.parser.AbstractBaseTest;
+import org.junit.jupiter.api.Test;
+
+class LongConverterTest extends AbstractBaseTest {
+
+    @Test
+    void testReadValid() {
+        LongConverter converter = new LongConverter();
+
+        assertEquals(42, converter.convertLong("42"));
+        assertEquals(-7, converter.convertLong("-7"));
+        assertEquals(8081, converter.convertLong("8080,8081", 5, 9));
+    }
+
+    @Test
+    void testReadInValid() {
+        LongConverter converter = new LongConverter();
+
+        assertThrows(NumberFormatException.class, () -> converter.convertLong("hi"));
+        assertThrows(NumberFormatException.class, () -> converter.convertLong("1,2", 0, 3));
+    }
+
+}